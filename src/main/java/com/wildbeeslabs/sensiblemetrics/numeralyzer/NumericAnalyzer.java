@@ -23,24 +23,46 @@
  */
 package com.wildbeeslabs.sensiblemetrics.numeralyzer;
 
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.ICache;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.impl.MappedFileCache;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.DelegatedDispatcher;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.impl.FactorialBatchRecursiveAction;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.impl.StagedPipeline;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.IGenericLexicalToken;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.ITokenBatch;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.impl.StringLexicalToken;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.impl.ComplexFactorialMetricsImpl;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.impl.SimpleFactorialMetricsImpl;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.lexical.IStringLexicalTokenMetrics;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.lexical.impl.StringLexicalTokenMetricsImpl;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.ICommandLineProcessor;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.factorial.ILongFactorialMetricsProcessor;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.factorial.impl.ComplexFactorialMetricsProcessorImpl;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.factorial.impl.SimpleFactorialMetricsProcessorImpl;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.impl.CommandLineProcessorImpl;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.lexical.IGenericLexicalTokenProcessor;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.lexical.impl.StringLexicalTokenProcessorImpl;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.utils.FileUtils;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.utils.ManagementUtils;
+import lombok.Data;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.log4j.LogManager;
-import org.apache.log4j.Logger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 /**
  * Numeric analyzer application to operate on input/output stream
@@ -54,7 +76,17 @@ public class NumericAnalyzer {
     /**
      * Default logger instance
      */
-    private static final Logger LOGGER = LogManager.getLogger(NumericAnalyzer.class);
+    private static final Logger LOGGER = LoggerFactory.getLogger(NumericAnalyzer.class);
+
+    /**
+     * Default number of input lines per pipeline batch
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1 << 10;
+
+    /**
+     * Default management name of the persistent result cache
+     */
+    public static final String RESULT_CACHE_NAME = MappedFileCache.class.getSimpleName();
 
     /**
      * Initial entry point of numeric analyzer application
@@ -63,30 +95,250 @@ public class NumericAnalyzer {
      */
     public void init(final String... args) {
         final ICommandLineProcessor commandLineProcessor = new CommandLineProcessorImpl(args);
+        if (Objects.nonNull(commandLineProcessor.getParallelism()) || Objects.nonNull(commandLineProcessor.getAsyncMode())) {
+            DelegatedDispatcher.configure(commandLineProcessor.getParallelism(), commandLineProcessor.getAsyncMode());
+        }
+        if (Objects.nonNull(commandLineProcessor.getIoMode())) {
+            DelegatedDispatcher.configureIo(commandLineProcessor.getIoMode());
+        }
 
-        List<StringLexicalToken> lexicalTokens = Collections.emptyList();
-        final IGenericLexicalTokenProcessor<String, StringLexicalToken> tokenProcessor = new StringLexicalTokenProcessorImpl();
-        if (Objects.nonNull(commandLineProcessor.getInputSource())) {
-            lexicalTokens = FileUtils.readFile(commandLineProcessor.getInputSource(), tokenProcessor);
+        final IGenericLexicalTokenProcessor<String, StringLexicalToken> tokenProcessor = new StringLexicalTokenProcessorImpl(IGenericLexicalToken.IdentityMode.NONE);
+        final IStringLexicalTokenMetrics tokenMetrics = new StringLexicalTokenMetricsImpl();
+        final ToLongFunction<StringLexicalToken> tokenParser = (StringLexicalToken token) -> tokenMetrics.valueOf(token, (StringLexicalToken value) -> Long.parseLong(value.getData().replaceAll("[\\D]", "")));
+        final ComplexFactorialMetricsImpl complexMetrics;
+        final ILongFactorialMetricsProcessor<?> metricsProcessor;
+        if (commandLineProcessor.getMetricsMode() == ICommandLineProcessor.MetricsMode.COMPLEX) {
+            complexMetrics = new ComplexFactorialMetricsImpl().register();
+            final ComplexFactorialMetricsProcessorImpl complexMetricsProcessor = new ComplexFactorialMetricsProcessorImpl();
+            complexMetricsProcessor.setMetrics(complexMetrics);
+            metricsProcessor = complexMetricsProcessor;
+        } else {
+            complexMetrics = null;
+            final SimpleFactorialMetricsProcessorImpl simpleMetricsProcessor = new SimpleFactorialMetricsProcessorImpl();
+            simpleMetricsProcessor.setMetrics(new SimpleFactorialMetricsImpl());
+            metricsProcessor = simpleMetricsProcessor;
         }
 
-        LOGGER.debug(String.format("Input collection of lexical tokens: {%s}", StringUtils.join(lexicalTokens, "|")));
+        try (final ComplexFactorialMetricsImpl managedMetrics = complexMetrics;
+             final MappedFileCache resultCache = this.openCache(commandLineProcessor.getCacheSource())) {
+            final boolean managedCache = Objects.nonNull(resultCache) && Objects.nonNull(ManagementUtils.registerCache(RESULT_CACHE_NAME, resultCache));
+            try {
+                if (commandLineProcessor.getEngine() == ICommandLineProcessor.EngineMode.PIPELINE
+                    && Objects.nonNull(commandLineProcessor.getInputSource()) && Objects.nonNull(commandLineProcessor.getOutputSource())) {
+                    this.runPipeline(commandLineProcessor, tokenProcessor, tokenMetrics, metricsProcessor, resultCache);
+                } else {
+                    this.runBatch(commandLineProcessor, tokenProcessor, tokenParser, metricsProcessor, resultCache);
+                }
+            } finally {
+                if (managedCache) {
+                    ManagementUtils.unregisterCache(RESULT_CACHE_NAME);
+                }
+            }
+        } catch (IOException ex) {
+            LOGGER.error("ERROR: cannot close cache source=({}), message=({})", commandLineProcessor.getCacheSource(), ex.getMessage());
+        }
+    }
 
-        final IStringLexicalTokenMetrics tokenMetrics = new StringLexicalTokenMetricsImpl();
-        final SimpleFactorialMetricsProcessorImpl metricsProcessor = new SimpleFactorialMetricsProcessorImpl();
-        metricsProcessor.setMetrics(new SimpleFactorialMetricsImpl());
-        //ComplexFactorialMetricsProcessorImpl metricsProcessor = new ComplexFactorialMetricsProcessorImpl();
-        //metricsProcessor.setMetrics(new ComplexFactorialMetricsImpl());
+    /**
+     * Reads all input values (parsed from lexical tokens or scanned straight from input bytes), computes their numbers of trailing zeros in parallel batches and writes all results
+     *
+     * @param commandLineProcessor - command line processor
+     * @param tokenProcessor       - lexical token processor
+     * @param tokenParser          - lexical token to value converter
+     * @param metricsProcessor     - factorial metrics processor
+     * @param resultCache          - result cache (optional)
+     */
+    private void runBatch(final ICommandLineProcessor commandLineProcessor, final IGenericLexicalTokenProcessor<String, StringLexicalToken> tokenProcessor,
+                          final ToLongFunction<StringLexicalToken> tokenParser, final ILongFactorialMetricsProcessor<?> metricsProcessor, final ICache<Long, Long> resultCache) {
+        final long[] values;
+        final long[] results;
+        if (commandLineProcessor.getParserMode() == ICommandLineProcessor.ParserMode.NUMERIC) {
+            values = Objects.isNull(commandLineProcessor.getInputSource()) ? new long[0] : this.scanInputSource(commandLineProcessor.getInputSource());
+            results = new long[values.length];
+            DelegatedDispatcher.execute(new FactorialBatchRecursiveAction<>(values, metricsProcessor, resultCache, results));
+        } else {
+            List<StringLexicalToken> lexicalTokens = Collections.emptyList();
+            if (Objects.nonNull(commandLineProcessor.getInputSource())) {
+                lexicalTokens = this.readInputSource(commandLineProcessor.getInputSource(), tokenProcessor);
+            }
 
-        final List<String> factorialTokenList = lexicalTokens.stream().map(token -> {
-            final Long tokenData = tokenMetrics.valueOf(token, (StringLexicalToken value) -> Long.parseLong(value.getData().replaceAll("[\\D]", "")));
-            return tokenData + " -> " + metricsProcessor.countTrailingZeros(tokenData);
-        }).collect(Collectors.toList());
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Input collection of lexical tokens: {{}}", StringUtils.join(lexicalTokens, "|"));
+            }
 
-        LOGGER.debug(String.format("Output collection of factorized lexical tokens: {%s}", StringUtils.join(factorialTokenList, "|")));
+            values = new long[lexicalTokens.size()];
+            results = new long[lexicalTokens.size()];
+            DelegatedDispatcher.execute(new FactorialBatchRecursiveAction<>(lexicalTokens, tokenParser, metricsProcessor, resultCache, values, results));
+        }
+        final List<String> factorialTokenList = IntStream.range(0, values.length).mapToObj(i -> values[i] + " -> " + results[i]).collect(Collectors.toList());
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Output collection of factorized lexical tokens: {{}}", StringUtils.join(factorialTokenList, "|"));
+        }
 
         if (Objects.nonNull(commandLineProcessor.getOutputSource())) {
             FileUtils.writeFile(commandLineProcessor.getOutputSource(), factorialTokenList);
         }
     }
+
+    /**
+     * Streams input through concurrent stages connected by bounded queues (read, tokenize into columnar token batches and parse stages for lexical input,
+     * a single scan stage for numeric input, then compute and write stages)
+     *
+     * @param commandLineProcessor - command line processor
+     * @param tokenProcessor       - lexical token processor
+     * @param tokenMetrics         - lexical token metrics
+     * @param metricsProcessor     - factorial metrics processor
+     * @param resultCache          - result cache (optional)
+     */
+    private void runPipeline(final ICommandLineProcessor commandLineProcessor, final IGenericLexicalTokenProcessor<String, StringLexicalToken> tokenProcessor,
+                             final IStringLexicalTokenMetrics tokenMetrics, final ILongFactorialMetricsProcessor<?> metricsProcessor, final ICache<Long, Long> resultCache) {
+        final File outputSource = commandLineProcessor.getOutputSource();
+        final List<File> inputFiles = this.listInputFiles(commandLineProcessor.getInputSource());
+        try (final BufferedWriter writer = Files.newBufferedWriter(outputSource.toPath(), FileUtils.DEFAULT_FILE_CHARACTER_ENCODING)) {
+            if (commandLineProcessor.getParserMode() == ICommandLineProcessor.ParserMode.NUMERIC) {
+                try (final FileUtils.NumericBatchIterator batches = new FileUtils.NumericBatchIterator(inputFiles, DEFAULT_BATCH_SIZE)) {
+                    this.computePipeline(StagedPipeline.from("numeralyzer-pipeline", batches, StagedPipeline.DEFAULT_CAPACITY), metricsProcessor, resultCache, writer);
+                }
+            } else {
+                try (final FileUtils.LineBatchIterator lines = new FileUtils.LineBatchIterator(inputFiles, DEFAULT_BATCH_SIZE)) {
+                    this.computePipeline(StagedPipeline.from("numeralyzer-pipeline", lines, StagedPipeline.DEFAULT_CAPACITY)
+                        .map("tokenize", (List<String> batch) -> tokenProcessor.getTokenBatch(batch.stream()))
+                        .map("parse", (ITokenBatch tokens) -> {
+                            final long[] values = new long[tokens.size()];
+                            tokenMetrics.valueOf(tokens, values);
+                            return values;
+                        }), metricsProcessor, resultCache, writer);
+                }
+            }
+        } catch (CompletionException ex) {
+            LOGGER.error("ERROR: cannot process input source=({}), message=({})", commandLineProcessor.getInputSource(), ex.getCause().getMessage());
+            this.deleteOutputSource(outputSource);
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            if (ex.getCause() instanceof Error) {
+                throw (Error) ex.getCause();
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (IOException ex) {
+            LOGGER.error("ERROR: cannot process read / writer operations on file={}, message={}", outputSource, ex.getMessage());
+            this.deleteOutputSource(outputSource);
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Deletes partially written output source after a failed run
+     *
+     * @param outputSource - output source {@link File} instance
+     */
+    private void deleteOutputSource(final File outputSource) {
+        try {
+            Files.deleteIfExists(outputSource.toPath());
+        } catch (IOException ex) {
+            LOGGER.error("ERROR: cannot delete output file={}, message={}", outputSource, ex.getMessage());
+        }
+    }
+
+    /**
+     * Appends compute (every batch is evaluated in parallel on the dispatcher pool) and write stages to the pipeline of value batches and runs it until all batches are written
+     *
+     * @param values           - pipeline of value batches
+     * @param metricsProcessor - factorial metrics processor
+     * @param resultCache      - result cache (optional)
+     * @param writer           - output writer (write failures fail the pipeline)
+     */
+    private void computePipeline(final StagedPipeline<long[]> values, final ILongFactorialMetricsProcessor<?> metricsProcessor, final ICache<Long, Long> resultCache, final BufferedWriter writer) {
+        values.map("compute", (long[] batch) -> {
+            final long[] results = new long[batch.length];
+            DelegatedDispatcher.execute(new FactorialBatchRecursiveAction<>(batch, metricsProcessor, resultCache, results));
+            return new ResultBatch(batch, results);
+        })
+            .to("write", (ResultBatch batch) -> {
+                try {
+                    for (int i = 0; i < batch.getValues().length; i++) {
+                        writer.write(batch.getValues()[i] + " -> " + batch.getResults()[i]);
+                        writer.newLine();
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+    }
+
+    /**
+     * Returns lexical tokens of the input file, or of all regular files of the input directory in path order read on the I/O executor
+     *
+     * @param inputSource    - input source {@link File} instance
+     * @param tokenProcessor - lexical token processor
+     * @return list of lexical tokens
+     */
+    private List<StringLexicalToken> readInputSource(final File inputSource, final IGenericLexicalTokenProcessor<String, StringLexicalToken> tokenProcessor) {
+        if (!inputSource.isDirectory()) {
+            return FileUtils.readFile(inputSource, tokenProcessor);
+        }
+        return FileUtils.readFiles(this.listInputFiles(inputSource), tokenProcessor, DelegatedDispatcher.getIoExecutor());
+    }
+
+    /**
+     * Returns values of numeric tokens of the input file, or of all regular files of the input directory in path order, scanned straight from their bytes
+     *
+     * @param inputSource - input source {@link File} instance
+     * @return array of values
+     */
+    private long[] scanInputSource(final File inputSource) {
+        final LongStream.Builder values = LongStream.builder();
+        for (final File inputFile : this.listInputFiles(inputSource)) {
+            try {
+                FileUtils.scanNumbers(inputFile, values);
+            } catch (IOException ex) {
+                LOGGER.error("ERROR: cannot read from input file={}, message={}", inputFile, ex.getMessage());
+            }
+        }
+        return values.build().toArray();
+    }
+
+    /**
+     * Returns the input file, or all regular files of the input directory in path order
+     *
+     * @param inputSource - input source {@link File} instance
+     * @return list of input files
+     */
+    private List<File> listInputFiles(final File inputSource) {
+        if (!inputSource.isDirectory()) {
+            return Collections.singletonList(inputSource);
+        }
+        final List<File> inputFiles = FileUtils.listFiles(inputSource);
+        inputFiles.sort(Comparator.comparing(File::getPath));
+        return inputFiles;
+    }
+
+    /**
+     * Returns memory-mapped result cache by input file, or null if the file is not set or cannot be opened
+     *
+     * @param cacheSource - cache source {@link File} instance
+     * @return result cache
+     */
+    private MappedFileCache openCache(final File cacheSource) {
+        if (Objects.isNull(cacheSource)) {
+            return null;
+        }
+        try {
+            return new MappedFileCache(cacheSource.toPath());
+        } catch (IOException ex) {
+            LOGGER.error("ERROR: cannot open cache source=({}), message=({})", cacheSource, ex.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Batch of input values and their numbers of trailing zeros
+     */
+    @Data
+    private static class ResultBatch {
+
+        private final long[] values;
+        private final long[] results;
+    }
 }
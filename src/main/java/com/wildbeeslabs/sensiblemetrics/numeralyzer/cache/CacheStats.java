@@ -0,0 +1,81 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.cache;
+
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * Immutable snapshot of cache statistics
+ *
+ * @author alexander.rogalskiy
+ * @version 1.0
+ * @since 2018-11-30
+ */
+@Data
+public final class CacheStats implements Serializable {
+
+    /**
+     * Default empty statistics
+     */
+    public static final CacheStats EMPTY = new CacheStats(0, 0, 0, 0, 0, 0, 0);
+
+    private final long hitCount;
+    private final long missCount;
+    private final long loadSuccessCount;
+    private final long loadFailureCount;
+    private final long totalLoadTime;
+    private final long evictionCount;
+    private final long size;
+
+    /**
+     * Returns number of lookups (hits and misses)
+     *
+     * @return number of lookups
+     */
+    public long requestCount() {
+        return this.hitCount + this.missCount;
+    }
+
+    /**
+     * Returns ratio of hits to lookups (1.0 if there were no lookups)
+     *
+     * @return hit rate
+     */
+    public double hitRate() {
+        final long requestCount = this.requestCount();
+        return (requestCount == 0) ? 1.0 : (double) this.hitCount / requestCount;
+    }
+
+    /**
+     * Returns average time spent loading a value in nanoseconds
+     *
+     * @return average load penalty
+     */
+    public double averageLoadPenalty() {
+        final long loadCount = this.loadSuccessCount + this.loadFailureCount;
+        return (loadCount == 0) ? 0.0 : (double) this.totalLoadTime / loadCount;
+    }
+}
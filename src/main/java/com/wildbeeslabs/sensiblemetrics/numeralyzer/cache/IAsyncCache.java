@@ -0,0 +1,59 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.cache;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Asynchronous cache interface declaration (single-flight loading)
+ *
+ * @param <K> - {@link Object}
+ * @param <V> - {@link Object}
+ * @author alexander.rogalskiy
+ * @version 1.0
+ * @since 2018-11-30
+ */
+public interface IAsyncCache<K, V> extends ICache<K, V> {
+
+    /**
+     * Returns future value by input key, loading it if absent (concurrent misses of the same key share a single load)
+     *
+     * @param key    - input key
+     * @param loader - asynchronous value loader
+     * @return future value by input key (null if the loader returns null)
+     */
+    CompletableFuture<V> computeIfAbsentAsync(final K key, final Function<? super K, ? extends CompletableFuture<? extends V>> loader);
+
+    /**
+     * Returns future map of values by input keys, loading all absent keys with a single batch call of the loader
+     *
+     * @param iterable - input collection of keys
+     * @param loader   - asynchronous batch loader of absent keys
+     * @return future map of values by input keys (keys without values are omitted)
+     */
+    CompletableFuture<Map<K, V>> loadAllAsync(final Iterable<? extends K> iterable, final Function<? super Set<K>, ? extends CompletableFuture<? extends Map<? extends K, ? extends V>>> loader);
+}
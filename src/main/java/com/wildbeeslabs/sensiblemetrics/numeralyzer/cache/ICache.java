@@ -99,4 +99,11 @@ public interface ICache<K, V> extends Serializable {
      * @param iterable - input collection of keys to be removed
      */
     void deleteAll(Iterable<? extends K> iterable);
+
+    /**
+     * Returns snapshot of the cache statistics
+     *
+     * @return cache statistics
+     */
+    CacheStats stats();
 }
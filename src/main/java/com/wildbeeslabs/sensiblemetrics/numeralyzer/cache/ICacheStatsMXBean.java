@@ -0,0 +1,83 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.cache;
+
+/**
+ * Cache statistics management interface declaration
+ *
+ * @author alexander.rogalskiy
+ * @version 1.0
+ * @since 2018-11-30
+ */
+public interface ICacheStatsMXBean {
+
+    /**
+     * Returns number of lookups served from the cache
+     *
+     * @return number of hits
+     */
+    long getHitCount();
+
+    /**
+     * Returns number of lookups of absent keys
+     *
+     * @return number of misses
+     */
+    long getMissCount();
+
+    /**
+     * Returns ratio of hits to lookups (1.0 if there were no lookups)
+     *
+     * @return hit rate
+     */
+    double getHitRate();
+
+    /**
+     * Returns number of values loaded into the cache
+     *
+     * @return number of loads
+     */
+    long getLoadCount();
+
+    /**
+     * Returns average time spent loading a value in nanoseconds
+     *
+     * @return average load penalty
+     */
+    double getAverageLoadPenalty();
+
+    /**
+     * Returns number of entries evicted (or dropped on write) by the cache
+     *
+     * @return number of evictions
+     */
+    long getEvictionCount();
+
+    /**
+     * Returns number of entries in the cache
+     *
+     * @return number of entries
+     */
+    long getSize();
+}
@@ -0,0 +1,84 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.cache;
+
+import java.io.Serializable;
+
+/**
+ * Cache eviction policy interface declaration (all operations should take constant time)
+ *
+ * @param <K> - {@link Object}
+ * @author alexander.rogalskiy
+ * @version 1.0
+ * @since 2018-11-30
+ */
+public interface IEvictionPolicy<K> extends Serializable {
+
+    /**
+     * Records access of the key stored in the cache
+     *
+     * @param key - input key
+     */
+    void onAccess(final K key);
+
+    /**
+     * Records request of the key absent in the cache
+     *
+     * @param key - input key
+     */
+    default void onMiss(final K key) {
+    }
+
+    /**
+     * Records insertion of the key into the cache
+     *
+     * @param key - input key
+     */
+    void onInsert(final K key);
+
+    /**
+     * Records removal of the key from the cache
+     *
+     * @param key - input key
+     */
+    void onRemove(final K key);
+
+    /**
+     * Returns next key to be evicted
+     *
+     * @return key to be evicted, or null if the policy tracks no keys
+     */
+    K victim();
+
+    /**
+     * Returns binary value based on admission of the candidate key in place of the victim key
+     *
+     * @param candidate - candidate key to be inserted
+     * @param victim    - victim key to be evicted
+     * @return true - if the candidate should be admitted, false - otherwise
+     */
+    default boolean admit(final K candidate, final K victim) {
+        return true;
+    }
+}
@@ -0,0 +1,369 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.impl;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.CacheStats;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.ICache;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.IEvictionPolicy;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.functions.Weigher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded cache implementation (size or weight limited with pluggable eviction policy)
+ *
+ * Reads are served from a {@link ConcurrentHashMap} without blocking; their accesses are recorded in the policy
+ * only when the policy lock is free. Writes and removals are serialized by the lock and evict in constant time.
+ * Every request of an absent key is recorded as one policy miss: by the lookup ({@link #read(Object)} or
+ * {@link #load(Object, Object)}), or by the write of a new key if the same thread did not just record its miss.
+ *
+ * @param <K> - {@link Object}
+ * @param <V> - {@link Object}
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+public class BoundedCache<K, V> implements ICache<K, V> {
+
+    /**
+     * Default logger instance
+     */
+    protected final Logger LOGGER = LoggerFactory.getLogger(getClass());
+
+    /**
+     * Default cache maximum size
+     */
+    public static final long DEFAULT_CACHE_MAXIMUM_SIZE = 10_000;
+
+    /**
+     * Default map based cache instance
+     */
+    private final Map<K, Entry<V>> cacheMap;
+    /**
+     * Default eviction policy
+     */
+    private final IEvictionPolicy<K> policy;
+    /**
+     * Default entry weigher
+     */
+    private final Weigher<? super K, ? super V> weigher;
+    /**
+     * Default maximum weight (maximum size for unit weigher)
+     */
+    private final long maximumWeight;
+    /**
+     * Default policy lock
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    /**
+     * Default statistics counter
+     */
+    private final CacheStatsCounter statsCounter = new CacheStatsCounter();
+    /**
+     * Default key of the last miss recorded by the current thread (consumed by the next write)
+     */
+    private final ThreadLocal<K> recordedMiss = new ThreadLocal<>();
+    /**
+     * Default current weight
+     */
+    private volatile long weight;
+
+    /**
+     * Default constructor
+     */
+    public BoundedCache() {
+        this(DEFAULT_CACHE_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Default constructor with maximum size (least recently used eviction)
+     *
+     * @param maximumSize - maximum number of entries
+     */
+    public BoundedCache(final long maximumSize) {
+        this(maximumSize, new LruEvictionPolicy<>());
+    }
+
+    /**
+     * Default constructor with maximum size and eviction policy
+     *
+     * @param maximumSize - maximum number of entries
+     * @param policy      - eviction policy
+     */
+    public BoundedCache(final long maximumSize, final IEvictionPolicy<K> policy) {
+        this(maximumSize, (key, value) -> 1L, policy);
+    }
+
+    /**
+     * Default constructor with maximum weight, entry weigher and eviction policy
+     *
+     * @param maximumWeight - maximum total weight of entries
+     * @param weigher       - entry weigher
+     * @param policy        - eviction policy
+     */
+    public BoundedCache(final long maximumWeight, final Weigher<? super K, ? super V> weigher, final IEvictionPolicy<K> policy) {
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException(String.format("Invalid argument: maximum weight {%s} should be non-negative", maximumWeight));
+        }
+        this.maximumWeight = maximumWeight;
+        this.weigher = Objects.requireNonNull(weigher);
+        this.policy = Objects.requireNonNull(policy);
+        this.cacheMap = new ConcurrentHashMap<>((int) Math.min(maximumWeight, DelegatedCache.DEFAULT_CACHE_INITIAL_SIZE));
+        LOGGER.debug("BoundedCache: initializing cache with maximum weight: {{}}, policy: {{}}", maximumWeight, policy.getClass().getSimpleName());
+    }
+
+    /**
+     * Returns current value in the cache by key, otherwise updates with default value
+     *
+     * @param key          - input key
+     * @param defaultValue - default value to store
+     * @return current value by key
+     */
+    @Override
+    public V load(final K key, final V defaultValue) {
+        this.lock.lock();
+        try {
+            final Entry<V> entry = this.cacheMap.get(key);
+            if (Objects.nonNull(entry)) {
+                this.statsCounter.recordHits(1);
+                this.policy.onAccess(key);
+                return entry.value;
+            }
+            this.statsCounter.recordMisses(1);
+            this.policy.onMiss(key);
+            this.put(key, defaultValue, true);
+            return null;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns map of the input keys to their stored values (the default value for the keys loaded by this call)
+     *
+     * @param iterable     - input collection of keys
+     * @param defaultValue - default value to store
+     * @return map with loaded keys
+     */
+    @Override
+    public Map<K, V> loadAll(final Iterable<? extends K> iterable, final V defaultValue) {
+        final Map<K, V> result = new LinkedHashMap<>();
+        Optional.ofNullable(iterable).orElse(Collections.emptyList()).forEach(key -> {
+            final V value = this.load(key, defaultValue);
+            result.put(key, Objects.isNull(value) ? defaultValue : value);
+        });
+        return result;
+    }
+
+    /**
+     * Stores input key with input value in the current cache (evicting entries if the maximum weight is exceeded,
+     * a new key is recorded as a miss unless the preceding {@link #read(Object)} of the current thread recorded it).
+     * A value heavier than the maximum weight is never stored: it removes the previous value of the key and is
+     * counted as an eviction.
+     *
+     * @param key   - input key
+     * @param value - input value
+     */
+    @Override
+    public void write(final K key, final V value) {
+        this.lock.lock();
+        try {
+            this.put(key, value, this.consumeRecordedMiss(key));
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Stores input collection of entries {@link Map.Entry} in the current cache
+     *
+     * @param iterable - input collection of keys and values to be stored
+     */
+    @Override
+    public void writeAll(final Iterable<? extends Map.Entry<? extends K, ? extends V>> iterable) {
+        Optional.ofNullable(iterable).orElse(Collections.emptyList()).forEach(entry -> write(entry.getKey(), entry.getValue()));
+    }
+
+    /**
+     * Return binary value based on existence of the input key
+     *
+     * @param key - input key
+     * @return true - if the key exists, false - otherwise
+     */
+    @Override
+    public boolean contains(final K key) {
+        return this.cacheMap.containsKey(key);
+    }
+
+    /**
+     * Returns value in the cache by input key (the access is recorded only if the policy is not locked)
+     *
+     * @param key - input key
+     * @return value by key
+     */
+    @Override
+    public V read(final K key) {
+        final Entry<V> entry = this.cacheMap.get(key);
+        if (Objects.isNull(entry)) {
+            this.statsCounter.recordMisses(1);
+        } else {
+            this.statsCounter.recordHits(1);
+        }
+        if (this.lock.tryLock()) {
+            try {
+                if (Objects.isNull(entry)) {
+                    this.policy.onMiss(key);
+                    this.recordedMiss.set(key);
+                } else if (this.cacheMap.containsKey(key)) {
+                    this.policy.onAccess(key);
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+        return Objects.isNull(entry) ? null : entry.value;
+    }
+
+    /**
+     * Removes value in the current cache by input key
+     *
+     * @param key - input key
+     */
+    @Override
+    public void delete(final K key) {
+        this.lock.lock();
+        try {
+            this.remove(key);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes values in the cache by input collection of keys
+     *
+     * @param iterable - input collection of keys to be removed
+     */
+    @Override
+    public void deleteAll(final Iterable<? extends K> iterable) {
+        Optional.ofNullable(iterable).orElse(Collections.emptyList()).forEach(key -> delete(key));
+    }
+
+    /**
+     * Returns number of entries in the cache
+     *
+     * @return number of entries
+     */
+    public long size() {
+        return this.cacheMap.size();
+    }
+
+    /**
+     * Returns total weight of entries in the cache
+     *
+     * @return total weight
+     */
+    public long weight() {
+        return this.weight;
+    }
+
+    @Override
+    public CacheStats stats() {
+        return this.statsCounter.snapshot(this.cacheMap.size());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BoundedCache(maximumWeight=%s, weight=%s, policy=%s)", this.maximumWeight, this.weight, this.policy.getClass().getSimpleName());
+    }
+
+    private boolean consumeRecordedMiss(final K key) {
+        final K recorded = this.recordedMiss.get();
+        if (Objects.isNull(recorded)) {
+            return false;
+        }
+        this.recordedMiss.remove();
+        return recorded.equals(key);
+    }
+
+    private void put(final K key, final V value, final boolean missRecorded) {
+        final long entryWeight = this.weigher.weigh(key, value);
+        if (entryWeight < 0) {
+            throw new IllegalArgumentException(String.format("Invalid argument: weight {%s} of key {%s} should be non-negative", entryWeight, key));
+        }
+        final boolean present = Objects.nonNull(this.remove(key));
+        if (entryWeight > this.maximumWeight) {
+            this.statsCounter.recordEviction();
+            return;
+        }
+        if (!present) {
+            if (!missRecorded) {
+                this.policy.onMiss(key);
+            }
+            if (this.weight + entryWeight > this.maximumWeight && !this.policy.admit(key, this.policy.victim())) {
+                this.statsCounter.recordEviction();
+                return;
+            }
+        }
+        while (this.weight + entryWeight > this.maximumWeight) {
+            this.remove(this.policy.victim());
+            this.statsCounter.recordEviction();
+        }
+        this.cacheMap.put(key, new Entry<>(value, entryWeight));
+        this.policy.onInsert(key);
+        this.weight += entryWeight;
+    }
+
+    private Entry<V> remove(final K key) {
+        final Entry<V> entry = this.cacheMap.remove(key);
+        if (Objects.nonNull(entry)) {
+            this.policy.onRemove(key);
+            this.weight -= entry.weight;
+        }
+        return entry;
+    }
+
+    /**
+     * Cache entry with its weight
+     */
+    private static final class Entry<V> implements Serializable {
+
+        private final V value;
+        private final long weight;
+
+        private Entry(final V value, final long weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
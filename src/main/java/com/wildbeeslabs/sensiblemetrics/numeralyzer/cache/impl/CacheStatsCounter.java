@@ -0,0 +1,78 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.impl;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.CacheStats;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache statistics counter implementation (striped {@link LongAdder} counters)
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+public class CacheStatsCounter implements Serializable {
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadSuccessCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public void recordHits(final int count) {
+        this.hitCount.add(count);
+    }
+
+    public void recordMisses(final int count) {
+        this.missCount.add(count);
+    }
+
+    public void recordLoadSuccess(final long loadTime) {
+        this.loadSuccessCount.increment();
+        this.totalLoadTime.add(loadTime);
+    }
+
+    public void recordLoadFailure(final long loadTime) {
+        this.loadFailureCount.increment();
+        this.totalLoadTime.add(loadTime);
+    }
+
+    public void recordEviction() {
+        this.evictionCount.increment();
+    }
+
+    /**
+     * Returns snapshot of the current counters
+     *
+     * @param size - current number of entries
+     * @return statistics snapshot
+     */
+    public CacheStats snapshot(final long size) {
+        return new CacheStats(this.hitCount.sum(), this.missCount.sum(), this.loadSuccessCount.sum(), this.loadFailureCount.sum(), this.totalLoadTime.sum(), this.evictionCount.sum(), size);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.impl;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.CacheStats;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.ICacheStatsMXBean;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Cache statistics management bean implementation (every attribute reads a fresh snapshot)
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+public class CacheStatsMXBeanImpl implements ICacheStatsMXBean {
+
+    /**
+     * Default statistics supplier
+     */
+    private final Supplier<CacheStats> stats;
+
+    public CacheStatsMXBeanImpl(final Supplier<CacheStats> stats) {
+        this.stats = Objects.requireNonNull(stats);
+    }
+
+    @Override
+    public long getHitCount() {
+        return this.stats.get().getHitCount();
+    }
+
+    @Override
+    public long getMissCount() {
+        return this.stats.get().getMissCount();
+    }
+
+    @Override
+    public double getHitRate() {
+        return this.stats.get().hitRate();
+    }
+
+    @Override
+    public long getLoadCount() {
+        final CacheStats snapshot = this.stats.get();
+        return snapshot.getLoadSuccessCount() + snapshot.getLoadFailureCount();
+    }
+
+    @Override
+    public double getAverageLoadPenalty() {
+        return this.stats.get().averageLoadPenalty();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return this.stats.get().getEvictionCount();
+    }
+
+    @Override
+    public long getSize() {
+        return this.stats.get().getSize();
+    }
+}
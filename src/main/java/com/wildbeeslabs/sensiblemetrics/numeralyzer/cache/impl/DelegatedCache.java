@@ -23,17 +23,25 @@
  */
 package com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.impl;
 
-import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.ICache;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.CacheStats;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.IAsyncCache;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.log4j.LogManager;
-import org.apache.log4j.Logger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Delegated cache implementation
@@ -44,14 +52,14 @@ import java.util.concurrent.ConcurrentHashMap;
  * @version 1.0.0
  * @since 2018-11-30
  */
-@EqualsAndHashCode
-@ToString
-public class DelegatedCache<K, V> implements ICache<K, V> {
+@EqualsAndHashCode(exclude = "statsCounter")
+@ToString(exclude = "statsCounter")
+public class DelegatedCache<K, V> implements IAsyncCache<K, V> {
 
     /**
      * Default logger instance
      */
-    protected final Logger LOGGER = LogManager.getLogger(getClass());
+    protected final Logger LOGGER = LoggerFactory.getLogger(getClass());
 
     /**
      * Default cache initial size
@@ -61,12 +69,22 @@ public class DelegatedCache<K, V> implements ICache<K, V> {
      * Default map based cache instance
      */
     private final Map<K, V> cacheMap;
+    /**
+     * Default in-flight loads by keys
+     */
+    private final transient Map<K, CompletableFuture<V>> inFlight;
+    /**
+     * Default statistics counter
+     */
+    private final CacheStatsCounter statsCounter;
 
     /**
      * Default constructor
      */
     public DelegatedCache() {
         this.cacheMap = new ConcurrentHashMap<>(DEFAULT_CACHE_INITIAL_SIZE);
+        this.inFlight = new ConcurrentHashMap<>();
+        this.statsCounter = new CacheStatsCounter();
     }
 
     /**
@@ -78,12 +96,14 @@ public class DelegatedCache<K, V> implements ICache<K, V> {
      */
     @Override
     public V load(final K key, final V defaultValue) {
-        LOGGER.debug(String.format("DelegatedCache: loading key: {%s}", key));
-        return this.cacheMap.putIfAbsent(key, defaultValue);
+        LOGGER.debug("DelegatedCache: loading key: {{}}", key);
+        final V value = this.cacheMap.putIfAbsent(key, defaultValue);
+        this.recordLookup(value);
+        return value;
     }
 
     /**
-     * Returns new map loaded with the input keys with default value
+     * Returns current map loaded with the input keys with default value (existing entries are preserved)
      *
      * @param iterable     - input collection of keys
      * @param defaultValue - default value to store
@@ -91,8 +111,9 @@ public class DelegatedCache<K, V> implements ICache<K, V> {
      */
     @Override
     public Map<K, V> loadAll(final Iterable<? extends K> iterable, final V defaultValue) {
-        LOGGER.debug(String.format("DelegatedCache: loading all keys: {%s}", StringUtils.join(iterable, "|")));
-        this.cacheMap.clear();
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("DelegatedCache: loading all keys: {{}}", StringUtils.join(iterable, "|"));
+        }
         Optional.ofNullable(iterable).orElse(Collections.emptyList()).forEach(key -> load((K) key, defaultValue));
         return this.cacheMap;
     }
@@ -105,7 +126,7 @@ public class DelegatedCache<K, V> implements ICache<K, V> {
      */
     @Override
     public void write(final K key, final V value) {
-        LOGGER.debug(String.format("DelegatedCache: writing entry with key: {%s}, value: {%s}", key, value));
+        LOGGER.debug("DelegatedCache: writing entry with key: {{}}, value: {{}}", key, value);
         this.cacheMap.put(key, value);
     }
 
@@ -116,7 +137,9 @@ public class DelegatedCache<K, V> implements ICache<K, V> {
      */
     @Override
     public void writeAll(final Iterable<? extends Map.Entry<? extends K, ? extends V>> iterable) {
-        LOGGER.debug(String.format("DelegatedCache: writing all entries: {%s}", StringUtils.join(iterable, "|"), iterable));
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("DelegatedCache: writing all entries: {{}}", StringUtils.join(iterable, "|"));
+        }
         Optional.ofNullable(iterable).orElse(Collections.emptyList()).forEach(entry -> write(entry.getKey(), entry.getValue()));
     }
 
@@ -128,7 +151,7 @@ public class DelegatedCache<K, V> implements ICache<K, V> {
      */
     @Override
     public boolean contains(final K key) {
-        LOGGER.debug(String.format("DelegatedCache: checking existence of value by key: {%s}", key));
+        LOGGER.debug("DelegatedCache: checking existence of value by key: {{}}", key);
         return this.cacheMap.containsKey(key);
     }
 
@@ -140,8 +163,10 @@ public class DelegatedCache<K, V> implements ICache<K, V> {
      */
     @Override
     public V read(final K key) {
-        LOGGER.debug(String.format("DelegatedCache: getting value by key: {%s}", key));
-        return this.cacheMap.get(key);
+        LOGGER.debug("DelegatedCache: getting value by key: {{}}", key);
+        final V value = this.cacheMap.get(key);
+        this.recordLookup(value);
+        return value;
     }
 
     /**
@@ -151,7 +176,7 @@ public class DelegatedCache<K, V> implements ICache<K, V> {
      */
     @Override
     public void delete(final K key) {
-        LOGGER.debug(String.format("DelegatedCache: deleting key: {%s}", key));
+        LOGGER.debug("DelegatedCache: deleting key: {{}}", key);
         this.cacheMap.remove(key);
     }
 
@@ -162,7 +187,150 @@ public class DelegatedCache<K, V> implements ICache<K, V> {
      */
     @Override
     public void deleteAll(final Iterable<? extends K> iterable) {
-        LOGGER.debug(String.format("DelegatedCache: deleting all keys: {%s}", StringUtils.join(iterable, "|")));
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("DelegatedCache: deleting all keys: {{}}", StringUtils.join(iterable, "|"));
+        }
         Optional.ofNullable(iterable).orElse(Collections.emptyList()).forEach(key -> delete((K) key));
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns future value by input key, loading it if absent (concurrent misses of the same key share a single load)
+     *
+     * @param key    - input key
+     * @param loader - asynchronous value loader
+     * @return future value by input key
+     */
+    @Override
+    public CompletableFuture<V> computeIfAbsentAsync(final K key, final Function<? super K, ? extends CompletableFuture<? extends V>> loader) {
+        final V value = this.cacheMap.get(key);
+        this.recordLookup(value);
+        if (Objects.nonNull(value)) {
+            return CompletableFuture.completedFuture(value);
+        }
+        final CompletableFuture<V> promise = new CompletableFuture<>();
+        final CompletableFuture<V> current = this.inFlight.putIfAbsent(key, promise);
+        if (Objects.nonNull(current)) {
+            return current;
+        }
+        final V loaded = this.cacheMap.get(key);
+        if (Objects.nonNull(loaded)) {
+            this.complete(key, promise, loaded);
+            return promise;
+        }
+        LOGGER.debug("DelegatedCache: loading key asynchronously: {{}}", key);
+        final long startTime = System.nanoTime();
+        try {
+            loader.apply(key).whenComplete((result, ex) -> {
+                if (Objects.isNull(ex)) {
+                    this.statsCounter.recordLoadSuccess(System.nanoTime() - startTime);
+                    this.complete(key, promise, result);
+                } else {
+                    this.statsCounter.recordLoadFailure(System.nanoTime() - startTime);
+                    this.inFlight.remove(key, promise);
+                    promise.completeExceptionally(ex);
+                }
+            });
+        } catch (RuntimeException ex) {
+            this.statsCounter.recordLoadFailure(System.nanoTime() - startTime);
+            this.inFlight.remove(key, promise);
+            promise.completeExceptionally(ex);
+        }
+        return promise;
+    }
+
+    /**
+     * Returns future map of values by input keys, loading all absent keys with a single batch call of the loader
+     *
+     * @param iterable - input collection of keys
+     * @param loader   - asynchronous batch loader of absent keys
+     * @return future map of values by input keys
+     */
+    @Override
+    public CompletableFuture<Map<K, V>> loadAllAsync(final Iterable<? extends K> iterable, final Function<? super Set<K>, ? extends CompletableFuture<? extends Map<? extends K, ? extends V>>> loader) {
+        final Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+        final Map<K, CompletableFuture<V>> promises = new HashMap<>();
+        Optional.ofNullable(iterable).orElse(Collections.emptyList()).forEach(key -> {
+            if (futures.containsKey(key)) {
+                return;
+            }
+            final V value = this.cacheMap.get(key);
+            this.recordLookup(value);
+            if (Objects.nonNull(value)) {
+                futures.put(key, CompletableFuture.completedFuture(value));
+                return;
+            }
+            final CompletableFuture<V> promise = new CompletableFuture<>();
+            final CompletableFuture<V> current = this.inFlight.putIfAbsent(key, promise);
+            if (Objects.isNull(current)) {
+                promises.put(key, promise);
+            }
+            futures.put(key, Objects.isNull(current) ? promise : current);
+        });
+        if (!promises.isEmpty()) {
+            final Set<K> misses = new LinkedHashSet<>(promises.keySet());
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("DelegatedCache: loading all keys asynchronously: {{}}", StringUtils.join(misses, "|"));
+            }
+            final long startTime = System.nanoTime();
+            try {
+                loader.apply(misses).whenComplete((result, ex) -> {
+                    if (Objects.isNull(ex)) {
+                        this.statsCounter.recordLoadSuccess(System.nanoTime() - startTime);
+                        final Map<? extends K, ? extends V> values = Optional.ofNullable(result).orElse(Collections.emptyMap());
+                        promises.forEach((key, promise) -> this.complete(key, promise, values.get(key)));
+                    } else {
+                        this.statsCounter.recordLoadFailure(System.nanoTime() - startTime);
+                        promises.forEach((key, promise) -> {
+                            this.inFlight.remove(key, promise);
+                            promise.completeExceptionally(ex);
+                        });
+                    }
+                });
+            } catch (RuntimeException ex) {
+                this.statsCounter.recordLoadFailure(System.nanoTime() - startTime);
+                promises.forEach((key, promise) -> {
+                    this.inFlight.remove(key, promise);
+                    promise.completeExceptionally(ex);
+                });
+            }
+        }
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])).thenApply(v -> {
+            final Map<K, V> result = new LinkedHashMap<>(futures.size());
+            futures.forEach((key, future) -> Optional.ofNullable(future.join()).ifPresent(value -> result.put(key, value)));
+            return result;
+        });
+    }
+
+    /**
+     * Returns snapshot of the cache statistics
+     *
+     * @return cache statistics
+     */
+    @Override
+    public CacheStats stats() {
+        return this.statsCounter.snapshot(this.cacheMap.size());
+    }
+
+    private void recordLookup(final V value) {
+        if (Objects.nonNull(value)) {
+            this.statsCounter.recordHits(1);
+        } else {
+            this.statsCounter.recordMisses(1);
+        }
+    }
+
+    /**
+     * Stores loaded value (if any) before releasing the in-flight load, so that late callers observe the cached value
+     *
+     * @param key     - input key
+     * @param promise - in-flight promise
+     * @param value   - loaded value
+     */
+    private void complete(final K key, final CompletableFuture<V> promise, final V value) {
+        if (Objects.nonNull(value)) {
+            this.cacheMap.put(key, value);
+        }
+        this.inFlight.remove(key, promise);
+        promise.complete(value);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.impl;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.IEvictionPolicy;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Least frequently used eviction policy implementation (constant time frequency buckets, ties are broken by insertion order)
+ *
+ * @param <K> - {@link Object}
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+@EqualsAndHashCode
+@ToString(of = "head")
+public class LfuEvictionPolicy<K> implements IEvictionPolicy<K> {
+
+    /**
+     * Default frequency buckets by keys
+     */
+    private final Map<K, Bucket<K>> buckets = new HashMap<>();
+    /**
+     * Default bucket with the lowest frequency
+     */
+    private Bucket<K> head;
+
+    @Override
+    public void onAccess(final K key) {
+        final Bucket<K> bucket = this.buckets.get(key);
+        if (Objects.isNull(bucket)) {
+            return;
+        }
+        Bucket<K> next = bucket.next;
+        if (Objects.isNull(next) || next.frequency != bucket.frequency + 1) {
+            next = new Bucket<>(bucket.frequency + 1);
+            this.link(bucket, next);
+        }
+        next.keys.add(key);
+        this.buckets.put(key, next);
+        this.removeFrom(bucket, key);
+    }
+
+    @Override
+    public void onInsert(final K key) {
+        if (this.buckets.containsKey(key)) {
+            return;
+        }
+        if (Objects.isNull(this.head) || this.head.frequency != 1) {
+            final Bucket<K> bucket = new Bucket<>(1);
+            bucket.next = this.head;
+            if (Objects.nonNull(this.head)) {
+                this.head.previous = bucket;
+            }
+            this.head = bucket;
+        }
+        this.head.keys.add(key);
+        this.buckets.put(key, this.head);
+    }
+
+    @Override
+    public void onRemove(final K key) {
+        final Bucket<K> bucket = this.buckets.remove(key);
+        if (Objects.nonNull(bucket)) {
+            this.removeFrom(bucket, key);
+        }
+    }
+
+    @Override
+    public K victim() {
+        return Objects.isNull(this.head) ? null : this.head.keys.iterator().next();
+    }
+
+    private void link(final Bucket<K> bucket, final Bucket<K> next) {
+        next.previous = bucket;
+        next.next = bucket.next;
+        if (Objects.nonNull(bucket.next)) {
+            bucket.next.previous = next;
+        }
+        bucket.next = next;
+    }
+
+    private void removeFrom(final Bucket<K> bucket, final K key) {
+        bucket.keys.remove(key);
+        if (!bucket.keys.isEmpty()) {
+            return;
+        }
+        if (Objects.nonNull(bucket.previous)) {
+            bucket.previous.next = bucket.next;
+        } else {
+            this.head = bucket.next;
+        }
+        if (Objects.nonNull(bucket.next)) {
+            bucket.next.previous = bucket.previous;
+        }
+    }
+
+    /**
+     * Frequency bucket (node of the doubly linked list ordered by frequency)
+     */
+    private static final class Bucket<K> implements Serializable {
+
+        private final long frequency;
+        private final Set<K> keys = new LinkedHashSet<>();
+        private Bucket<K> previous;
+        private Bucket<K> next;
+
+        private Bucket(final long frequency) {
+            this.frequency = frequency;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Bucket(frequency=%s, size=%s)", this.frequency, this.keys.size());
+        }
+    }
+}
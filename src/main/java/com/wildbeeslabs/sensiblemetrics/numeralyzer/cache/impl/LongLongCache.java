@@ -0,0 +1,269 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.impl;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.CacheStats;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Primitive long to long cache implementation (open addressing with linear probing, no per-entry objects)
+ *
+ * The zero key is stored outside of the table, since zero marks empty slots. Removal shifts the following
+ * entries of the probe sequence backwards, so no tombstones are left behind. If the maximum size is reached,
+ * a new key replaces the entry occupying its home slot, otherwise the write is dropped.
+ * The cache is not thread-safe.
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+@ToString(of = {"size", "maximumSize"})
+public class LongLongCache implements Serializable {
+
+    /**
+     * Default unbounded maximum size
+     */
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
+    /**
+     * Default initial capacity
+     */
+    public static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private final int maximumSize;
+    private final CacheStatsCounter statsCounter = new CacheStatsCounter();
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int shift;
+    private int size;
+    private boolean hasZeroKey;
+    private long zeroValue;
+
+    /**
+     * Default constructor
+     */
+    public LongLongCache() {
+        this(UNBOUNDED);
+    }
+
+    /**
+     * Default constructor with maximum size
+     *
+     * @param maximumSize - maximum number of entries (should be positive, limited by 2^29)
+     */
+    public LongLongCache(final int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException(String.format("Invalid argument: maximum size {%s} should be positive", maximumSize));
+        }
+        this.maximumSize = Math.min(maximumSize, MAX_CAPACITY >> 1);
+        this.allocate((maximumSize == UNBOUNDED) ? DEFAULT_INITIAL_CAPACITY : capacityOf(maximumSize));
+    }
+
+    /**
+     * Returns value by input key, otherwise default value (single probe sequence)
+     *
+     * @param key          - input key
+     * @param defaultValue - default value
+     * @return value by key or default value
+     */
+    public long getOrDefault(final long key, final long defaultValue) {
+        if (key == 0) {
+            return this.hasZeroKey ? this.hit(this.zeroValue) : this.miss(defaultValue);
+        }
+        for (int index = this.slotOf(key); ; index = (index + 1) & this.mask) {
+            final long current = this.keys[index];
+            if (current == key) {
+                return this.hit(this.values[index]);
+            }
+            if (current == 0) {
+                return this.miss(defaultValue);
+            }
+        }
+    }
+
+    /**
+     * Returns binary value based on existence of the input key
+     *
+     * @param key - input key
+     * @return true - if the key exists, false - otherwise
+     */
+    public boolean containsKey(final long key) {
+        return (key == 0) ? this.hasZeroKey : this.indexOf(key) >= 0;
+    }
+
+    /**
+     * Stores input key with input value
+     *
+     * @param key   - input key
+     * @param value - input value
+     */
+    public void put(final long key, final long value) {
+        if (key == 0) {
+            if (!this.hasZeroKey && this.size >= this.maximumSize) {
+                this.statsCounter.recordEviction();
+                return;
+            }
+            this.size += this.hasZeroKey ? 0 : 1;
+            this.hasZeroKey = true;
+            this.zeroValue = value;
+            return;
+        }
+        int index = this.slotOf(key);
+        final int home = index;
+        for (long current; (current = this.keys[index]) != 0; index = (index + 1) & this.mask) {
+            if (current == key) {
+                this.values[index] = value;
+                return;
+            }
+        }
+        if (this.size >= this.maximumSize) {
+            if (this.keys[home] != 0) {
+                this.keys[home] = key;
+                this.values[home] = value;
+            }
+            this.statsCounter.recordEviction();
+            return;
+        }
+        this.keys[index] = key;
+        this.values[index] = value;
+        if (++this.size > (this.mask + 1) >> 1 && this.mask + 1 < MAX_CAPACITY) {
+            this.allocate((this.mask + 1) << 1);
+        }
+    }
+
+    /**
+     * Removes input key
+     *
+     * @param key - input key
+     * @return true - if the key was removed, false - otherwise
+     */
+    public boolean remove(final long key) {
+        if (key == 0) {
+            final boolean removed = this.hasZeroKey;
+            this.size -= removed ? 1 : 0;
+            this.hasZeroKey = false;
+            return removed;
+        }
+        int index = this.indexOf(key);
+        if (index < 0) {
+            return false;
+        }
+        for (int next = (index + 1) & this.mask; this.keys[next] != 0; next = (next + 1) & this.mask) {
+            final int home = this.slotOf(this.keys[next]);
+            if (((next - home) & this.mask) >= ((next - index) & this.mask)) {
+                this.keys[index] = this.keys[next];
+                this.values[index] = this.values[next];
+                index = next;
+            }
+        }
+        this.keys[index] = 0;
+        this.size--;
+        return true;
+    }
+
+    /**
+     * Removes all entries
+     */
+    public void clear() {
+        Arrays.fill(this.keys, 0);
+        this.hasZeroKey = false;
+        this.size = 0;
+    }
+
+    /**
+     * Returns number of entries
+     *
+     * @return number of entries
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns snapshot of the cache statistics (lookups are counted by {@link #getOrDefault(long, long)})
+     *
+     * @return cache statistics
+     */
+    public CacheStats stats() {
+        return this.statsCounter.snapshot(this.size);
+    }
+
+    private long hit(final long value) {
+        this.statsCounter.recordHits(1);
+        return value;
+    }
+
+    private long miss(final long defaultValue) {
+        this.statsCounter.recordMisses(1);
+        return defaultValue;
+    }
+
+    private int indexOf(final long key) {
+        for (int index = this.slotOf(key); ; index = (index + 1) & this.mask) {
+            final long current = this.keys[index];
+            if (current == key) {
+                return index;
+            }
+            if (current == 0) {
+                return -1;
+            }
+        }
+    }
+
+    private int slotOf(final long key) {
+        return (int) ((key * GOLDEN_RATIO) >>> this.shift);
+    }
+
+    private void allocate(final int capacity) {
+        final long[] oldKeys = this.keys;
+        final long[] oldValues = this.values;
+        this.keys = new long[capacity];
+        this.values = new long[capacity];
+        this.mask = capacity - 1;
+        this.shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+        if (oldKeys == null) {
+            return;
+        }
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int index = this.slotOf(oldKeys[i]);
+                while (this.keys[index] != 0) {
+                    index = (index + 1) & this.mask;
+                }
+                this.keys[index] = oldKeys[i];
+                this.values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private static int capacityOf(final int maximumSize) {
+        return (int) Math.min(MAX_CAPACITY, Long.highestOneBit(Math.max(maximumSize, DEFAULT_INITIAL_CAPACITY / 2) * 4L - 1));
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.impl;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.CacheStats;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.ICache;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Long to long cache adapter implementation (synchronized {@link ICache} view of the {@link LongLongCache}, null keys and values are not supported)
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+@EqualsAndHashCode
+@ToString
+public class LongLongCacheAdapter implements ICache<Long, Long> {
+
+    /**
+     * Default missing value marker (resolved by an additional probe if stored as a value)
+     */
+    private static final long MISSING = Long.MIN_VALUE;
+
+    /**
+     * Default primitive cache instance
+     */
+    private final LongLongCache cache;
+
+    /**
+     * Default constructor
+     */
+    public LongLongCacheAdapter() {
+        this(new LongLongCache());
+    }
+
+    /**
+     * Default constructor with primitive cache instance
+     *
+     * @param cache - primitive cache instance
+     */
+    public LongLongCacheAdapter(final LongLongCache cache) {
+        this.cache = Objects.requireNonNull(cache);
+    }
+
+    @Override
+    public synchronized Long load(final Long key, final Long defaultValue) {
+        final Long value = this.read(key);
+        if (Objects.isNull(value)) {
+            this.cache.put(key, defaultValue);
+        }
+        return value;
+    }
+
+    @Override
+    public synchronized Map<Long, Long> loadAll(final Iterable<? extends Long> iterable, final Long defaultValue) {
+        final Map<Long, Long> result = new HashMap<>();
+        Optional.ofNullable(iterable).orElse(Collections.emptyList()).forEach(key -> {
+            final Long value = this.load(key, defaultValue);
+            if (Objects.nonNull(value) || this.cache.containsKey(key)) {
+                result.put(key, Objects.isNull(value) ? defaultValue : value);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public synchronized void write(final Long key, final Long value) {
+        this.cache.put(key, value);
+    }
+
+    @Override
+    public synchronized void writeAll(final Iterable<? extends Map.Entry<? extends Long, ? extends Long>> iterable) {
+        Optional.ofNullable(iterable).orElse(Collections.emptyList()).forEach(entry -> this.cache.put(entry.getKey(), entry.getValue()));
+    }
+
+    @Override
+    public synchronized boolean contains(final Long key) {
+        return this.cache.containsKey(key);
+    }
+
+    @Override
+    public synchronized Long read(final Long key) {
+        final long value = this.cache.getOrDefault(key, MISSING);
+        return (value != MISSING || this.cache.containsKey(key)) ? value : null;
+    }
+
+    @Override
+    public synchronized void delete(final Long key) {
+        this.cache.remove(key);
+    }
+
+    @Override
+    public synchronized void deleteAll(final Iterable<? extends Long> iterable) {
+        Optional.ofNullable(iterable).orElse(Collections.emptyList()).forEach(key -> this.cache.remove(key));
+    }
+
+    @Override
+    public CacheStats stats() {
+        return this.cache.stats();
+    }
+
+    /**
+     * Returns underlying primitive cache (not synchronized)
+     *
+     * @return primitive cache
+     */
+    public LongLongCache getCache() {
+        return this.cache;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.impl;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.IEvictionPolicy;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least recently used eviction policy implementation
+ *
+ * @param <K> - {@link Object}
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+@EqualsAndHashCode
+@ToString
+public class LruEvictionPolicy<K> implements IEvictionPolicy<K> {
+
+    /**
+     * Default access ordered keys
+     */
+    private final Map<K, Boolean> keys = new LinkedHashMap<>(16, 0.75f, true);
+
+    @Override
+    public void onAccess(final K key) {
+        this.keys.get(key);
+    }
+
+    @Override
+    public void onInsert(final K key) {
+        this.keys.put(key, Boolean.TRUE);
+    }
+
+    @Override
+    public void onRemove(final K key) {
+        this.keys.remove(key);
+    }
+
+    @Override
+    public K victim() {
+        final Iterator<K> iterator = this.keys.keySet().iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.impl;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.CacheStats;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.ICache;
+import lombok.ToString;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Memory-mapped file cache implementation (persistent fixed-slot hash table of long keys and values)
+ *
+ * The file starts with a header (magic, format version, slot size and number of slots) followed by slots of
+ * key, value and checksum. The checksum is written last and is always positive for occupied slots, zero marks
+ * empty slots and a negative value marks removed slots, so a slot torn by a crash fails checksum validation
+ * and is treated as removed. A file with an unknown header or a different number of slots is reinitialized, a file
+ * larger than the mapped region is truncated to it.
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+@ToString(of = {"path", "slots"})
+public class MappedFileCache implements ICache<Long, Long>, Closeable {
+
+    /**
+     * Default logger instance
+     */
+    protected final transient Logger LOGGER = LoggerFactory.getLogger(getClass());
+
+    /**
+     * Default file size
+     */
+    public static final long DEFAULT_FILE_SIZE = 64L << 20;
+    /**
+     * Default file format magic ("NUMCACHE") and version
+     */
+    public static final long MAGIC = 0x4E554D4341434845L;
+    public static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 64;
+    private static final int SLOT_SIZE = 3 * Long.BYTES;
+    private static final int VALUE_OFFSET = Long.BYTES;
+    private static final int CHECKSUM_OFFSET = 2 * Long.BYTES;
+    private static final long EMPTY = 0;
+    private static final long REMOVED = Long.MIN_VALUE;
+
+    private final Path path;
+    private final transient FileChannel channel;
+    private final transient MappedByteBuffer buffer;
+    private final int slots;
+    private final int mask;
+    private final CacheStatsCounter statsCounter = new CacheStatsCounter();
+
+    /**
+     * Default constructor with file path
+     *
+     * @param path - cache file path
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public MappedFileCache(final Path path) throws IOException {
+        this(path, DEFAULT_FILE_SIZE);
+    }
+
+    /**
+     * Default constructor with file path and file size (the number of slots is rounded down to a power of two)
+     *
+     * @param path     - cache file path
+     * @param fileSize - cache file size in bytes
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public MappedFileCache(final Path path, final long fileSize) throws IOException {
+        if (fileSize < HEADER_SIZE + SLOT_SIZE || fileSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format("Invalid argument: file size {%s} should be in the range [%s, %s]", fileSize, HEADER_SIZE + SLOT_SIZE, Integer.MAX_VALUE));
+        }
+        this.path = Objects.requireNonNull(path);
+        this.slots = Integer.highestOneBit((int) ((fileSize - HEADER_SIZE) / SLOT_SIZE));
+        this.mask = this.slots - 1;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            final long mappedSize = HEADER_SIZE + (long) this.slots * SLOT_SIZE;
+            final boolean valid = this.channel.size() >= mappedSize;
+            if (this.channel.size() > mappedSize) {
+                this.channel.truncate(mappedSize);
+            }
+            this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize);
+            if (!valid || this.buffer.getLong(0) != MAGIC || this.buffer.getInt(8) != VERSION || this.buffer.getInt(12) != SLOT_SIZE || this.buffer.getInt(16) != this.slots) {
+                LOGGER.debug("MappedFileCache: initializing cache file: {{}}, slots: {{}}", path, this.slots);
+                this.initialize();
+            }
+        } catch (IOException | RuntimeException ex) {
+            this.channel.close();
+            throw ex;
+        }
+    }
+
+    @Override
+    public synchronized Long load(final Long key, final Long defaultValue) {
+        final Long value = this.read(key);
+        if (Objects.isNull(value)) {
+            this.write(key, defaultValue);
+        }
+        return value;
+    }
+
+    @Override
+    public synchronized Map<Long, Long> loadAll(final Iterable<? extends Long> iterable, final Long defaultValue) {
+        final Map<Long, Long> result = new HashMap<>();
+        Optional.ofNullable(iterable).orElse(Collections.emptyList()).forEach(key -> {
+            final Long value = this.load(key, defaultValue);
+            result.put(key, Objects.isNull(value) ? defaultValue : value);
+        });
+        return result;
+    }
+
+    /**
+     * Stores input key with input value (the write is dropped if no slot is available)
+     *
+     * @param key   - input key
+     * @param value - input value
+     */
+    @Override
+    public synchronized void write(final Long key, final Long value) {
+        final long k = key, v = value;
+        int free = -1;
+        for (int i = 0, index = slotOf(k); i < this.slots; i++, index = (index + 1) & this.mask) {
+            final int offset = offsetOf(index);
+            final long checksum = this.buffer.getLong(offset + CHECKSUM_OFFSET);
+            if (checksum == EMPTY) {
+                free = (free < 0) ? index : free;
+                break;
+            }
+            if (this.isValid(offset, checksum)) {
+                if (this.buffer.getLong(offset) == k) {
+                    free = index;
+                    break;
+                }
+            } else if (free < 0) {
+                free = index;
+            }
+        }
+        if (free >= 0) {
+            final int offset = offsetOf(free);
+            this.buffer.putLong(offset + CHECKSUM_OFFSET, REMOVED);
+            this.buffer.putLong(offset, k);
+            this.buffer.putLong(offset + VALUE_OFFSET, v);
+            this.buffer.putLong(offset + CHECKSUM_OFFSET, checksumOf(k, v));
+        } else {
+            this.statsCounter.recordEviction();
+        }
+    }
+
+    @Override
+    public void writeAll(final Iterable<? extends Map.Entry<? extends Long, ? extends Long>> iterable) {
+        Optional.ofNullable(iterable).orElse(Collections.emptyList()).forEach(entry -> write(entry.getKey(), entry.getValue()));
+    }
+
+    @Override
+    public synchronized boolean contains(final Long key) {
+        return this.indexOf(key) >= 0;
+    }
+
+    @Override
+    public synchronized Long read(final Long key) {
+        final int index = this.indexOf(key);
+        if (index < 0) {
+            this.statsCounter.recordMisses(1);
+            return null;
+        }
+        this.statsCounter.recordHits(1);
+        return this.buffer.getLong(offsetOf(index) + VALUE_OFFSET);
+    }
+
+    @Override
+    public synchronized void delete(final Long key) {
+        final int index = this.indexOf(key);
+        if (index >= 0) {
+            this.buffer.putLong(offsetOf(index) + CHECKSUM_OFFSET, REMOVED);
+        }
+    }
+
+    @Override
+    public void deleteAll(final Iterable<? extends Long> iterable) {
+        Optional.ofNullable(iterable).orElse(Collections.emptyList()).forEach(key -> delete(key));
+    }
+
+    /**
+     * Returns snapshot of the cache statistics (the size is counted by scanning the slots, dropped writes are counted as evictions)
+     *
+     * @return cache statistics
+     */
+    @Override
+    public synchronized CacheStats stats() {
+        long size = 0;
+        for (int index = 0; index < this.slots; index++) {
+            final int offset = offsetOf(index);
+            size += this.isValid(offset, this.buffer.getLong(offset + CHECKSUM_OFFSET)) ? 1 : 0;
+        }
+        return this.statsCounter.snapshot(size);
+    }
+
+    /**
+     * Flushes mapped content to the storage device
+     */
+    public synchronized void flush() {
+        this.buffer.force();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.channel.isOpen()) {
+            this.buffer.force();
+            this.channel.close();
+        }
+    }
+
+    private int indexOf(final long key) {
+        for (int i = 0, index = slotOf(key); i < this.slots; i++, index = (index + 1) & this.mask) {
+            final int offset = offsetOf(index);
+            final long checksum = this.buffer.getLong(offset + CHECKSUM_OFFSET);
+            if (checksum == EMPTY) {
+                return -1;
+            }
+            if (this.buffer.getLong(offset) == key && this.isValid(offset, checksum)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isValid(final int offset, final long checksum) {
+        return checksum > 0 && checksum == checksumOf(this.buffer.getLong(offset), this.buffer.getLong(offset + VALUE_OFFSET));
+    }
+
+    private void initialize() {
+        for (int offset = 0; offset < this.buffer.capacity(); offset += Long.BYTES) {
+            this.buffer.putLong(offset, 0L);
+        }
+        this.buffer.putInt(8, VERSION);
+        this.buffer.putInt(12, SLOT_SIZE);
+        this.buffer.putInt(16, this.slots);
+        this.buffer.force();
+        this.buffer.putLong(0, MAGIC);
+        this.buffer.force();
+    }
+
+    private int slotOf(final long key) {
+        return (int) mix(key) & this.mask;
+    }
+
+    private static int offsetOf(final int index) {
+        return HEADER_SIZE + index * SLOT_SIZE;
+    }
+
+    private static long checksumOf(final long key, final long value) {
+        return (mix(mix(key) ^ value) & Long.MAX_VALUE) | 1;
+    }
+
+    private static long mix(final long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        return h ^ (h >>> 33);
+    }
+}
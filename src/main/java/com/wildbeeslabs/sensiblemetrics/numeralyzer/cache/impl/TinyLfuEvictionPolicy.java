@@ -0,0 +1,141 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.impl;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Frequency sketch admission policy implementation (TinyLFU admission on top of the least recently used eviction)
+ *
+ * Every request increments the key in a count-min sketch with periodic aging, and a new key replaces the
+ * least recently used victim only if its estimated frequency is higher.
+ *
+ * @param <K> - {@link Object}
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class TinyLfuEvictionPolicy<K> extends LruEvictionPolicy<K> {
+
+    /**
+     * Default frequency sketch
+     */
+    private final FrequencySketch sketch;
+
+    /**
+     * Default constructor with expected number of entries
+     *
+     * @param capacity - expected number of entries in the cache
+     */
+    public TinyLfuEvictionPolicy(final long capacity) {
+        this.sketch = new FrequencySketch(capacity);
+    }
+
+    @Override
+    public void onAccess(final K key) {
+        super.onAccess(key);
+        this.sketch.increment(key);
+    }
+
+    @Override
+    public void onMiss(final K key) {
+        this.sketch.increment(key);
+    }
+
+    @Override
+    public boolean admit(final K candidate, final K victim) {
+        return this.sketch.frequency(candidate) > this.sketch.frequency(victim);
+    }
+
+    /**
+     * Count-min sketch with 4 rows of saturating counters halved after every sample period
+     */
+    @ToString(of = {"mask", "additions"})
+    private static final class FrequencySketch implements Serializable {
+
+        private static final int DEPTH = 4;
+        private static final int MAX_COUNT = 15;
+        private static final int MAX_WIDTH = 1 << 24;
+        private static final int SAMPLE_FACTOR = 10;
+        private static final int[] SEEDS = {0x97cb3127, 0xab7c1e53, 0x1f6b2c4d, 0x5bd1e995};
+
+        private final int[] counters;
+        private final int mask;
+        private final long sampleSize;
+        private long additions;
+
+        private FrequencySketch(final long capacity) {
+            final int width = (int) Math.min(MAX_WIDTH, Long.highestOneBit(Math.min(Math.max(capacity, 1), MAX_WIDTH) * 2 - 1) << 1);
+            this.counters = new int[DEPTH * width];
+            this.mask = width - 1;
+            this.sampleSize = (long) SAMPLE_FACTOR * width;
+        }
+
+        private void increment(final Object key) {
+            final int hash = spread(Objects.hashCode(key));
+            boolean added = false;
+            for (int i = 0; i < DEPTH; i++) {
+                final int index = this.indexOf(hash, i);
+                if (this.counters[index] < MAX_COUNT) {
+                    this.counters[index]++;
+                    added = true;
+                }
+            }
+            if (added && ++this.additions >= this.sampleSize) {
+                this.reset();
+            }
+        }
+
+        private int frequency(final Object key) {
+            final int hash = spread(Objects.hashCode(key));
+            int frequency = MAX_COUNT;
+            for (int i = 0; i < DEPTH; i++) {
+                frequency = Math.min(frequency, this.counters[this.indexOf(hash, i)]);
+            }
+            return frequency;
+        }
+
+        private int indexOf(final int hash, final int row) {
+            final int h = spread(hash * SEEDS[row]);
+            return row * (this.mask + 1) + (h & this.mask);
+        }
+
+        private void reset() {
+            Arrays.setAll(this.counters, i -> this.counters[i] >>> 1);
+            this.additions >>>= 1;
+        }
+
+        private static int spread(final int hash) {
+            final int h = hash * 0x9e3779b9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
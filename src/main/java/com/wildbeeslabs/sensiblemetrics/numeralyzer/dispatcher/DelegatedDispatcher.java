@@ -23,14 +23,25 @@
  */
 package com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher;
 
-import org.apache.log4j.LogManager;
-import org.apache.log4j.Logger;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.impl.DelegatedThreadFactory;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.impl.IoExecutors;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.impl.LatencyHistogram;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.utils.ManagementUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * Delegated dispatcher implementation
+ * Delegated dispatcher implementation (owns a dedicated fork join pool configured by system properties
+ * {@link #PARALLELISM_PROPERTY} and {@link #ASYNC_MODE_PROPERTY}, or at runtime by {@link #configure(Integer, Boolean)},
+ * for CPU-bound tasks and a separate executor configured by {@link #IO_MODE_PROPERTY} or {@link #configureIo(IoMode)}
+ * for blocking I/O stages)
  *
  * @author Alex
  * @version 1.0.0
@@ -41,15 +52,217 @@ public class DelegatedDispatcher {
     /**
      * Default Logger instance
      */
-    protected final Logger LOGGER = LogManager.getLogger(this.getClass());
+    private static final Logger LOGGER = LoggerFactory.getLogger(DelegatedDispatcher.class);
+    /**
+     * Default parallelism system property
+     */
+    public static final String PARALLELISM_PROPERTY = "numeralyzer.dispatcher.parallelism";
+    /**
+     * Default async mode system property
+     */
+    public static final String ASYNC_MODE_PROPERTY = "numeralyzer.dispatcher.async-mode";
+    /**
+     * Default I/O mode system property
+     */
+    public static final String IO_MODE_PROPERTY = "numeralyzer.dispatcher.io-mode";
+    /**
+     * Default management bean name
+     */
+    public static final String DEFAULT_NAME = "DelegatedDispatcher";
+    /**
+     * Default maximum parallelism (as limited by {@link ForkJoinPool})
+     */
+    public static final int MAX_PARALLELISM = 0x7fff;
+    /**
+     * Default number of platform threads per processor in {@link IoMode#PLATFORM} mode
+     */
+    public static final int IO_THREADS_PER_PROCESSOR = 4;
+
+    /**
+     * I/O mode enumeration
+     */
+    public enum IoMode {
+        /**
+         * Fixed pool of platform threads
+         */
+        PLATFORM,
+        /**
+         * New virtual thread per task (Java 21 or later, falls back to {@link #PLATFORM} otherwise)
+         */
+        VIRTUAL;
+    }
+
+    /**
+     * Default task latency histogram
+     */
+    private static final LatencyHistogram latencies = new LatencyHistogram();
+    /**
+     * Default uncaught exception counter
+     */
+    private static final LongAdder uncaughtExceptionCount = new LongAdder();
     /**
      * Default fork join pool
      */
-    public static final ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();//new ForkJoinPool(2);
+    private static volatile ForkJoinPool forkJoinPool = newForkJoinPool(defaultParallelism(), defaultAsyncMode());
+    /**
+     * Default I/O mode
+     */
+    private static volatile IoMode ioMode = supportedIoMode(defaultIoMode());
+    /**
+     * Default I/O executor
+     */
+    private static volatile ExecutorService ioExecutor = newIoExecutor(ioMode);
+
+    static {
+        ManagementUtils.registerDispatcher(DEFAULT_NAME, DelegatedDispatcher::stats);
+    }
+
+    /**
+     * Returns current fork join pool
+     *
+     * @return fork join pool
+     */
+    public static ForkJoinPool getForkJoinPool() {
+        return forkJoinPool;
+    }
+
+    /**
+     * Replaces current fork join pool by a new one (the previous pool completes already submitted tasks and shuts down)
+     *
+     * @param parallelism - input parallelism (system property or number of available processors if null)
+     * @param asyncMode   - input async mode (system property if null)
+     */
+    public static synchronized void configure(final Integer parallelism, final Boolean asyncMode) {
+        final ForkJoinPool previous = forkJoinPool;
+        forkJoinPool = newForkJoinPool(Objects.isNull(parallelism) ? defaultParallelism() : parallelism, Objects.isNull(asyncMode) ? defaultAsyncMode() : asyncMode);
+        previous.shutdown();
+        LOGGER.debug("DelegatedDispatcher: configured pool with parallelism: {{}}, async mode: {{}}", forkJoinPool.getParallelism(), forkJoinPool.getAsyncMode());
+    }
+
+    /**
+     * Returns current I/O executor (blocking reads and writes should be submitted here, CPU-bound work to the fork join pool)
+     *
+     * @return I/O executor
+     */
+    public static ExecutorService getIoExecutor() {
+        return ioExecutor;
+    }
+
+    /**
+     * Returns current I/O mode
+     *
+     * @return I/O mode
+     */
+    public static IoMode getIoMode() {
+        return ioMode;
+    }
+
+    /**
+     * Replaces current I/O executor by a new one (the previous executor completes already submitted tasks and shuts down)
+     *
+     * @param mode - input I/O mode (system property if null)
+     */
+    public static synchronized void configureIo(final IoMode mode) {
+        final ExecutorService previous = ioExecutor;
+        ioMode = supportedIoMode(Objects.isNull(mode) ? defaultIoMode() : mode);
+        ioExecutor = newIoExecutor(ioMode);
+        previous.shutdown();
+        LOGGER.debug("DelegatedDispatcher: configured I/O executor with mode: {{}}", ioMode);
+    }
+
+    /**
+     * Submits the input task to the current pool, the latency from submission to completion is recorded
+     *
+     * @param <R>  type of task result
+     * @param task - input task
+     * @return submitted task
+     */
+    public static <R> ForkJoinTask<R> submit(final ForkJoinTask<R> task) {
+        return forkJoinPool.submit(new TimedTask<>(task));
+    }
 
     public static <R> R execute(final ForkJoinTask<R> task) {
-        DelegatedDispatcher.forkJoinPool.execute(task);
-        return task.join();
-        //CPoolUtils.forkJoinPool.invoke(task);
+        return submit(task).join();
+    }
+
+    /**
+     * Returns snapshot of the current pool statistics
+     *
+     * @return dispatcher statistics
+     */
+    public static DispatcherStats stats() {
+        final ForkJoinPool pool = forkJoinPool;
+        return new DispatcherStats(pool.getParallelism(), pool.getAsyncMode(), pool.getPoolSize(), pool.getActiveThreadCount(), pool.getRunningThreadCount(),
+            pool.getStealCount(), pool.getQueuedTaskCount(), pool.getQueuedSubmissionCount(), uncaughtExceptionCount.sum(), latencies.getCount(),
+            latencies.getMean(), latencies.getPercentile(50), latencies.getPercentile(90), latencies.getPercentile(99), latencies.getMax());
+    }
+
+    private static int defaultParallelism() {
+        return Integer.getInteger(PARALLELISM_PROPERTY, Runtime.getRuntime().availableProcessors());
+    }
+
+    private static boolean defaultAsyncMode() {
+        return Boolean.getBoolean(ASYNC_MODE_PROPERTY);
+    }
+
+    private static IoMode defaultIoMode() {
+        final String mode = System.getProperty(IO_MODE_PROPERTY, IoMode.PLATFORM.name());
+        try {
+            return IoMode.valueOf(mode.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            LOGGER.warn("WARN: invalid I/O mode=({}), falling back to I/O mode=({})", mode, IoMode.PLATFORM);
+        }
+        return IoMode.PLATFORM;
+    }
+
+    private static IoMode supportedIoMode(final IoMode mode) {
+        if (mode == IoMode.VIRTUAL && !IoExecutors.isVirtualThreadSupported()) {
+            LOGGER.warn("WARN: virtual threads are not supported by the current runtime, falling back to I/O mode=({})", IoMode.PLATFORM);
+            return IoMode.PLATFORM;
+        }
+        return mode;
+    }
+
+    private static ExecutorService newIoExecutor(final IoMode mode) {
+        if (mode == IoMode.VIRTUAL) {
+            return IoExecutors.newVirtualThreadExecutor("numeralyzer-io-");
+        }
+        return IoExecutors.newPlatformThreadExecutor("numeralyzer-io-", IO_THREADS_PER_PROCESSOR * Runtime.getRuntime().availableProcessors());
+    }
+
+    private static ForkJoinPool newForkJoinPool(final int parallelism, final boolean asyncMode) {
+        if (parallelism <= 0 || parallelism > MAX_PARALLELISM) {
+            throw new IllegalArgumentException(String.format("Invalid argument: parallelism {%s} should be in the range [1, %s]", parallelism, MAX_PARALLELISM));
+        }
+        return new ForkJoinPool(parallelism, new DelegatedThreadFactory(), DelegatedDispatcher::uncaughtException, asyncMode);
+    }
+
+    private static void uncaughtException(final Thread thread, final Throwable ex) {
+        uncaughtExceptionCount.increment();
+        LOGGER.error("ERROR: uncaught exception in thread=({}), message=({})", thread.getName(), ex.getMessage(), ex);
+    }
+
+    /**
+     * Task wrapper recording latency from submission to completion of the delegate
+     *
+     * @param <R> type of task result
+     */
+    private static final class TimedTask<R> extends RecursiveTask<R> {
+
+        private final ForkJoinTask<R> task;
+        private final long submitted = System.nanoTime();
+
+        private TimedTask(final ForkJoinTask<R> task) {
+            this.task = Objects.requireNonNull(task);
+        }
+
+        @Override
+        protected R compute() {
+            try {
+                return this.task.invoke();
+            } finally {
+                latencies.record(System.nanoTime() - this.submitted);
+            }
+        }
     }
 }
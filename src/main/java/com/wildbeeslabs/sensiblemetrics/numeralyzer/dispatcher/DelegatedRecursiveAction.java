@@ -26,15 +26,15 @@ package com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
-import org.apache.log4j.LogManager;
-import org.apache.log4j.Logger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.List;
-import java.util.concurrent.Callable;
+import java.util.Objects;
 import java.util.concurrent.RecursiveAction;
 
 /**
- * Delegated recursive action implementation
+ * Delegated recursive action implementation (same fork / compute / join scheme as {@link DelegatedRecursiveTask})
  *
  * @param <T> - {@link Object}
  * @param <U> - {@link DelegatedRecursiveAction}
@@ -43,16 +43,20 @@ import java.util.concurrent.RecursiveAction;
  * @since 2018-11-30
  */
 @Data
-@EqualsAndHashCode(callSuper = true)
-@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true, exclude = "context")
+@ToString(callSuper = true, exclude = "context")
 public abstract class DelegatedRecursiveAction<T, U extends DelegatedRecursiveAction<T, U>> extends RecursiveAction {
 
     /**
      * Default Logger instance
      */
-    protected final Logger LOGGER = LogManager.getLogger(this.getClass());
+    protected final Logger LOGGER = LoggerFactory.getLogger(this.getClass());
 
     private final T value;
+    /**
+     * Default task context (inherited by subtasks, created on demand by the root task)
+     */
+    private TaskContext context;
 
     public DelegatedRecursiveAction(final T value) {
         this.value = value;
@@ -60,18 +64,64 @@ public abstract class DelegatedRecursiveAction<T, U extends DelegatedRecursiveAc
 
     @Override
     protected void compute() {
-        if (this.validateCondition()) {
-            DelegatedDispatcher.forkJoinPool.invokeAll(this.createSubtasks());
-        } else {
+        if (Objects.isNull(this.context)) {
+            this.context = new TaskContext();
+        }
+        this.context.checkpoint();
+        if (!this.validateCondition()) {
             this.processing(this.value);
+            return;
+        }
+        final List<U> subtasks = this.createSubtasks();
+        for (final U subtask : subtasks) {
+            subtask.setContext(this.context);
+        }
+        final boolean parallel = getSurplusQueuedTaskCount() <= this.getSurplusThreshold();
+        try {
+            if (parallel) {
+                for (int i = subtasks.size() - 1; i > 0; i--) {
+                    subtasks.get(i).fork();
+                }
+            }
+            subtasks.get(0).invoke();
+            for (int i = 1; i < subtasks.size(); i++) {
+                if (parallel) {
+                    subtasks.get(i).join();
+                } else {
+                    subtasks.get(i).invoke();
+                }
+            }
+        } catch (RuntimeException | Error ex) {
+            this.context.cancel();
+            subtasks.forEach(subtask -> subtask.cancel(false));
+            throw ex;
         }
     }
 
-    protected abstract List<? extends Callable<U>> createSubtasks();
+    /**
+     * Returns non-empty list of subtasks splitting the current value
+     *
+     * @return list of subtasks
+     */
+    protected abstract List<U> createSubtasks();
 
     protected abstract boolean validateCondition();
 
+    protected abstract void process(final T value);
+
+    /**
+     * Returns surplus of locally queued tasks above which subtasks are computed without forking
+     *
+     * @return surplus threshold
+     */
+    protected int getSurplusThreshold() {
+        return DelegatedRecursiveTask.DEFAULT_SURPLUS_THRESHOLD;
+    }
+
     protected void processing(final T value) {
-        LOGGER.debug(String.format("The result=(%s) was processed by thread=(%s)", value, Thread.currentThread().getName()));
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("The result=({}) was processed by thread=({})", value, Thread.currentThread().getName());
+        }
+        this.process(value);
     }
 }
@@ -26,16 +26,18 @@ package com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
-import org.apache.log4j.LogManager;
-import org.apache.log4j.Logger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.List;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
+import java.util.Objects;
 import java.util.concurrent.RecursiveTask;
 
 /**
- * Delegated recursive task implementation
+ * Delegated recursive task implementation (divide and conquer: forks all subtasks but the first, computes the first
+ * in the current thread and joins the rest in order; stops forking while the local queue holds more than
+ * {@link #getSurplusThreshold()} surplus tasks). A failing subtask cancels the shared {@link TaskContext},
+ * cancels its forked siblings and its exception is rethrown by the root task.
  *
  * @param <T> - {@link Object}
  * @param <R> - {@link Object}
@@ -45,16 +47,25 @@ import java.util.concurrent.RecursiveTask;
  * @since 2018-11-30
  */
 @Data
-@EqualsAndHashCode(callSuper = true)
-@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true, exclude = "context")
+@ToString(callSuper = true, exclude = "context")
 public abstract class DelegatedRecursiveTask<T, R, U extends DelegatedRecursiveTask<T, R, U>> extends RecursiveTask<R> {
 
+    /**
+     * Default surplus of locally queued tasks above which subtasks are computed without forking
+     */
+    public static final int DEFAULT_SURPLUS_THRESHOLD = 3;
+
     /**
      * Default Logger instance
      */
-    protected final Logger LOGGER = LogManager.getLogger(this.getClass());
+    protected final Logger LOGGER = LoggerFactory.getLogger(this.getClass());
 
     private final T value;
+    /**
+     * Default task context (inherited by subtasks, created on demand by the root task)
+     */
+    private TaskContext context;
 
     public DelegatedRecursiveTask(final T value) {
         this.value = value;
@@ -62,29 +73,67 @@ public abstract class DelegatedRecursiveTask<T, R, U extends DelegatedRecursiveT
 
     @Override
     protected R compute() {
-        if (this.validateCondition()) {
-            return DelegatedDispatcher.forkJoinPool.invokeAll(this.createSubtasks()).stream().map(e -> {
-                try {
-                    return e.get();
-                } catch (InterruptedException | ExecutionException ex) {
-                    LOGGER.error("ERROR: cannot get recursive task execution result");
+        if (Objects.isNull(this.context)) {
+            this.context = new TaskContext();
+        }
+        this.context.checkpoint();
+        if (!this.validateCondition()) {
+            return this.processing(this.value);
+        }
+        final List<U> subtasks = this.createSubtasks();
+        for (final U subtask : subtasks) {
+            subtask.setContext(this.context);
+        }
+        final boolean parallel = getSurplusQueuedTaskCount() <= this.getSurplusThreshold();
+        try {
+            if (parallel) {
+                for (int i = subtasks.size() - 1; i > 0; i--) {
+                    subtasks.get(i).fork();
                 }
-                return null;
-            }).map(DelegatedRecursiveTask::join).reduce((x, y) -> reduceData(x, y)).get();
+            }
+            R result = subtasks.get(0).invoke();
+            for (int i = 1; i < subtasks.size(); i++) {
+                result = this.reduceData(result, parallel ? subtasks.get(i).join() : subtasks.get(i).invoke());
+            }
+            return result;
+        } catch (RuntimeException | Error ex) {
+            this.context.cancel();
+            subtasks.forEach(subtask -> subtask.cancel(false));
+            throw ex;
         }
-        return this.processing(this.value);
     }
 
-    protected abstract List<? extends Callable<U>> createSubtasks();
+    /**
+     * Returns non-empty list of subtasks splitting the current value
+     *
+     * @return list of subtasks
+     */
+    protected abstract List<U> createSubtasks();
 
+    /**
+     * Returns true if the current value should be split into subtasks, false - if it should be processed sequentially
+     *
+     * @return true - if the current value should be split, false - otherwise
+     */
     protected abstract boolean validateCondition();
 
     protected abstract R process(final T value);
 
     protected abstract R reduceData(final R first, final R second);
 
+    /**
+     * Returns surplus of locally queued tasks above which subtasks are computed without forking
+     *
+     * @return surplus threshold
+     */
+    protected int getSurplusThreshold() {
+        return DEFAULT_SURPLUS_THRESHOLD;
+    }
+
     protected R processing(final T value) {
-        LOGGER.debug(String.format("The result=(%s) was processed by thread=(%s)", value, Thread.currentThread().getName()));
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("The result=({}) was processed by thread=({})", value, Thread.currentThread().getName());
+        }
         return this.process(value);
     }
 }
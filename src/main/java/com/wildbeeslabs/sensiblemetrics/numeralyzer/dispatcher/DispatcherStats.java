@@ -0,0 +1,55 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher;
+
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * Immutable snapshot of dispatcher pool statistics (latencies are measured in nanoseconds from submission to completion)
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+@Data
+public final class DispatcherStats implements Serializable {
+
+    private final int parallelism;
+    private final boolean asyncMode;
+    private final int poolSize;
+    private final int activeThreadCount;
+    private final int runningThreadCount;
+    private final long stealCount;
+    private final long queuedTaskCount;
+    private final int queuedSubmissionCount;
+    private final long uncaughtExceptionCount;
+    private final long taskCount;
+    private final double meanLatency;
+    private final long medianLatency;
+    private final long p90Latency;
+    private final long p99Latency;
+    private final long maxLatency;
+}
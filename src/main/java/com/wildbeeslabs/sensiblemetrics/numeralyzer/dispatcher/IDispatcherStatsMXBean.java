@@ -0,0 +1,139 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher;
+
+/**
+ * Dispatcher statistics management interface declaration
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+public interface IDispatcherStatsMXBean {
+
+    /**
+     * Returns target parallelism of the dispatcher pool
+     *
+     * @return parallelism
+     */
+    int getParallelism();
+
+    /**
+     * Returns async (FIFO) mode of the dispatcher pool
+     *
+     * @return true - if the pool is in async mode, false - otherwise
+     */
+    boolean isAsyncMode();
+
+    /**
+     * Returns number of started worker threads
+     *
+     * @return pool size
+     */
+    int getPoolSize();
+
+    /**
+     * Returns estimated number of threads running or stealing tasks
+     *
+     * @return number of active threads
+     */
+    int getActiveThreadCount();
+
+    /**
+     * Returns estimated number of worker threads not blocked in joins or managed blocking
+     *
+     * @return number of running threads
+     */
+    int getRunningThreadCount();
+
+    /**
+     * Returns estimated number of tasks stolen from other worker queues
+     *
+     * @return number of steals
+     */
+    long getStealCount();
+
+    /**
+     * Returns estimated number of tasks queued by worker threads
+     *
+     * @return number of queued tasks
+     */
+    long getQueuedTaskCount();
+
+    /**
+     * Returns estimated number of tasks submitted from outside the pool and not yet started
+     *
+     * @return number of queued submissions
+     */
+    int getQueuedSubmissionCount();
+
+    /**
+     * Returns number of exceptions not handled by the dispatched tasks
+     *
+     * @return number of uncaught exceptions
+     */
+    long getUncaughtExceptionCount();
+
+    /**
+     * Returns number of completed dispatched tasks
+     *
+     * @return number of tasks
+     */
+    long getTaskCount();
+
+    /**
+     * Returns mean task latency in nanoseconds (from submission to completion)
+     *
+     * @return mean latency
+     */
+    double getMeanLatency();
+
+    /**
+     * Returns median task latency in nanoseconds
+     *
+     * @return median latency
+     */
+    long getMedianLatency();
+
+    /**
+     * Returns 90th percentile of task latency in nanoseconds
+     *
+     * @return 90th percentile latency
+     */
+    long getP90Latency();
+
+    /**
+     * Returns 99th percentile of task latency in nanoseconds
+     *
+     * @return 99th percentile latency
+     */
+    long getP99Latency();
+
+    /**
+     * Returns maximum task latency in nanoseconds
+     *
+     * @return maximum latency
+     */
+    long getMaxLatency();
+}
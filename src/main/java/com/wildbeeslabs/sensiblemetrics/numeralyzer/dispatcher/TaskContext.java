@@ -0,0 +1,97 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher;
+
+import lombok.ToString;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task context shared by a tree of recursive tasks (cooperative cancellation and deadline, checked by every task before computing)
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+@ToString
+public class TaskContext {
+
+    /**
+     * Default deadline (in terms of {@link System#nanoTime()}), valid only if {@link #timed} is set
+     */
+    private final long deadline;
+    private final boolean timed;
+    private volatile boolean cancelled;
+
+    /**
+     * Default constructor (no deadline)
+     */
+    public TaskContext() {
+        this.deadline = 0;
+        this.timed = false;
+    }
+
+    /**
+     * Default constructor with input timeout
+     *
+     * @param timeout - input timeout (should be positive)
+     * @param unit    - input time unit
+     */
+    public TaskContext(final long timeout, final TimeUnit unit) {
+        if (timeout <= 0) {
+            throw new IllegalArgumentException(String.format("Invalid argument: timeout {%s} should be greater than 0", timeout));
+        }
+        this.deadline = System.nanoTime() + unit.toNanos(timeout);
+        this.timed = true;
+    }
+
+    /**
+     * Cancels all tasks sharing the current context (already running leaves complete, the rest fail with {@link CancellationException})
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    public boolean isExpired() {
+        return this.timed && System.nanoTime() - this.deadline >= 0;
+    }
+
+    /**
+     * Throws {@link CancellationException} if the context is cancelled or its deadline has passed
+     */
+    public void checkpoint() {
+        if (this.cancelled) {
+            throw new CancellationException("Task was cancelled");
+        }
+        if (this.isExpired()) {
+            this.cancelled = true;
+            throw new CancellationException("Task deadline exceeded");
+        }
+    }
+}
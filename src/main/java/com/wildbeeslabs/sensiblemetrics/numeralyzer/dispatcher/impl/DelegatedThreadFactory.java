@@ -0,0 +1,63 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.impl;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delegated fork join worker thread factory implementation (names workers by prefix and sequence number)
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+public class DelegatedThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+
+    /**
+     * Default thread name prefix
+     */
+    public static final String DEFAULT_PREFIX = "numeralyzer-worker-";
+
+    private final String prefix;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    public DelegatedThreadFactory() {
+        this(DEFAULT_PREFIX);
+    }
+
+    public DelegatedThreadFactory(final String prefix) {
+        this.prefix = Objects.requireNonNull(prefix);
+    }
+
+    @Override
+    public ForkJoinWorkerThread newThread(final ForkJoinPool pool) {
+        final ForkJoinWorkerThread thread = new ForkJoinWorkerThread(pool) {
+        };
+        thread.setName(this.prefix + this.sequence.incrementAndGet());
+        return thread;
+    }
+}
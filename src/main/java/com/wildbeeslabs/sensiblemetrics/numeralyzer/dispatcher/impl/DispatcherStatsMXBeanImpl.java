@@ -0,0 +1,124 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.impl;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.DispatcherStats;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.IDispatcherStatsMXBean;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Dispatcher statistics management bean implementation (every attribute reads a fresh snapshot)
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+public class DispatcherStatsMXBeanImpl implements IDispatcherStatsMXBean {
+
+    /**
+     * Default statistics supplier
+     */
+    private final Supplier<DispatcherStats> stats;
+
+    public DispatcherStatsMXBeanImpl(final Supplier<DispatcherStats> stats) {
+        this.stats = Objects.requireNonNull(stats);
+    }
+
+    @Override
+    public int getParallelism() {
+        return this.stats.get().getParallelism();
+    }
+
+    @Override
+    public boolean isAsyncMode() {
+        return this.stats.get().isAsyncMode();
+    }
+
+    @Override
+    public int getPoolSize() {
+        return this.stats.get().getPoolSize();
+    }
+
+    @Override
+    public int getActiveThreadCount() {
+        return this.stats.get().getActiveThreadCount();
+    }
+
+    @Override
+    public int getRunningThreadCount() {
+        return this.stats.get().getRunningThreadCount();
+    }
+
+    @Override
+    public long getStealCount() {
+        return this.stats.get().getStealCount();
+    }
+
+    @Override
+    public long getQueuedTaskCount() {
+        return this.stats.get().getQueuedTaskCount();
+    }
+
+    @Override
+    public int getQueuedSubmissionCount() {
+        return this.stats.get().getQueuedSubmissionCount();
+    }
+
+    @Override
+    public long getUncaughtExceptionCount() {
+        return this.stats.get().getUncaughtExceptionCount();
+    }
+
+    @Override
+    public long getTaskCount() {
+        return this.stats.get().getTaskCount();
+    }
+
+    @Override
+    public double getMeanLatency() {
+        return this.stats.get().getMeanLatency();
+    }
+
+    @Override
+    public long getMedianLatency() {
+        return this.stats.get().getMedianLatency();
+    }
+
+    @Override
+    public long getP90Latency() {
+        return this.stats.get().getP90Latency();
+    }
+
+    @Override
+    public long getP99Latency() {
+        return this.stats.get().getP99Latency();
+    }
+
+    @Override
+    public long getMaxLatency() {
+        return this.stats.get().getMaxLatency();
+    }
+}
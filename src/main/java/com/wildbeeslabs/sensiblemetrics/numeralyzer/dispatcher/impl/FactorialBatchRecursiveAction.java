@@ -0,0 +1,167 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.impl;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.ICache;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.DelegatedRecursiveAction;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.factorial.ILongFactorialMetricsProcessor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.ToLongFunction;
+
+/**
+ * Factorial batch recursive action implementation (splits the input list into chunks of at most threshold elements,
+ * every chunk converts its elements into values (unless the values are given) and stores their numbers of trailing zeros at the same indexes)
+ *
+ * @param <T> - {@link Object}
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true, exclude = {"elements", "values", "output"})
+public class FactorialBatchRecursiveAction<T> extends DelegatedRecursiveAction<FactorialBatchRecursiveAction.Chunk, FactorialBatchRecursiveAction<T>> {
+
+    /**
+     * Default number of elements processed sequentially (input and output chunks fit into L2 cache)
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 12;
+
+    private final List<? extends T> elements;
+    private final ToLongFunction<? super T> converter;
+    private final ILongFactorialMetricsProcessor<?> processor;
+    private final ICache<Long, Long> cache;
+    private final long[] values;
+    private final long[] output;
+    private final int threshold;
+
+    /**
+     * Default constructor
+     *
+     * @param elements  - input elements
+     * @param converter - element to value converter
+     * @param processor - factorial metrics processor
+     * @param cache     - result cache (optional)
+     * @param values    - output array of converted values
+     * @param output    - output array of trailing zeros
+     */
+    public FactorialBatchRecursiveAction(final List<? extends T> elements, final ToLongFunction<? super T> converter, final ILongFactorialMetricsProcessor<?> processor,
+                                         final ICache<Long, Long> cache, final long[] values, final long[] output) {
+        this(new Chunk(0, elements.size()), (elements instanceof RandomAccess) ? elements : new ArrayList<>(elements),
+            converter, processor, cache, values, output, DEFAULT_THRESHOLD);
+        if (values.length < elements.size() || output.length < elements.size()) {
+            throw new IllegalArgumentException(String.format("Invalid argument: output arrays should hold at least {%s} elements", elements.size()));
+        }
+    }
+
+    /**
+     * Default constructor with already converted input values
+     *
+     * @param values    - input values
+     * @param processor - factorial metrics processor
+     * @param cache     - result cache (optional)
+     * @param output    - output array of trailing zeros
+     */
+    public FactorialBatchRecursiveAction(final long[] values, final ILongFactorialMetricsProcessor<?> processor, final ICache<Long, Long> cache, final long[] output) {
+        this(new Chunk(0, values.length), null, null, processor, cache, values, output, DEFAULT_THRESHOLD);
+        if (output.length < values.length) {
+            throw new IllegalArgumentException(String.format("Invalid argument: output array should hold at least {%s} elements", values.length));
+        }
+    }
+
+    private FactorialBatchRecursiveAction(final Chunk value, final List<? extends T> elements, final ToLongFunction<? super T> converter, final ILongFactorialMetricsProcessor<?> processor,
+                                          final ICache<Long, Long> cache, final long[] values, final long[] output, final int threshold) {
+        super(value);
+        this.elements = elements;
+        this.converter = converter;
+        this.processor = Objects.requireNonNull(processor);
+        this.cache = cache;
+        this.values = values;
+        this.output = output;
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected List<FactorialBatchRecursiveAction<T>> createSubtasks() {
+        final Chunk chunk = this.getValue();
+        final int middle = (chunk.getFrom() + chunk.getTo()) >>> 1;
+        return Arrays.asList(
+            new FactorialBatchRecursiveAction<>(new Chunk(chunk.getFrom(), middle), this.elements, this.converter, this.processor, this.cache, this.values, this.output, this.threshold),
+            new FactorialBatchRecursiveAction<>(new Chunk(middle, chunk.getTo()), this.elements, this.converter, this.processor, this.cache, this.values, this.output, this.threshold)
+        );
+    }
+
+    @Override
+    protected boolean validateCondition() {
+        return this.getValue().size() > this.threshold;
+    }
+
+    @Override
+    protected void process(final Chunk value) {
+        if (Objects.nonNull(this.converter)) {
+            for (int i = value.getFrom(); i < value.getTo(); i++) {
+                this.values[i] = this.converter.applyAsLong(this.elements.get(i));
+            }
+        }
+        if (Objects.isNull(this.cache)) {
+            this.processor.countTrailingZeros(this.values, value.getFrom(), value.size(), this.output, value.getFrom());
+            return;
+        }
+        for (int i = value.getFrom(); i < value.getTo(); i++) {
+            final Long result = this.cache.read(this.values[i]);
+            if (Objects.isNull(result)) {
+                this.output[i] = this.processor.countTrailingZeros(this.values[i]);
+                this.cache.write(this.values[i], this.output[i]);
+            } else {
+                this.output[i] = result;
+            }
+        }
+    }
+
+    /**
+     * Chunk of element indexes in the range [from, to)
+     */
+    @Data
+    public static class Chunk {
+
+        private final int from;
+        private final int to;
+
+        /**
+         * Returns number of elements in the chunk
+         *
+         * @return number of elements
+         */
+        public int size() {
+            return this.to - this.from;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.impl;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear latency histogram (every power of two is split into {@link #SUB_BUCKETS} linear buckets,
+ * so a recorded value is reported with a relative error below 1 / {@link #SUB_BUCKETS})
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+public class LatencyHistogram implements Serializable {
+
+    /**
+     * Default number of linear sub-buckets per power of two
+     */
+    public static final int SUB_BUCKETS = 8;
+    /**
+     * Default number of bits addressing the sub-buckets
+     */
+    private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKETS);
+
+    private final AtomicLongArray counts = new AtomicLongArray((Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records the input latency (negative values are recorded as zero)
+     *
+     * @param latency - input latency in nanoseconds
+     */
+    public void record(final long latency) {
+        final long value = Math.max(latency, 0);
+        this.counts.incrementAndGet(indexOf(value));
+        this.count.increment();
+        this.total.add(value);
+        this.max.accumulate(value);
+    }
+
+    /**
+     * Returns number of recorded values
+     *
+     * @return number of recorded values
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * Returns mean of recorded values (0 if nothing was recorded)
+     *
+     * @return mean latency in nanoseconds
+     */
+    public double getMean() {
+        final long count = this.getCount();
+        return (count == 0) ? 0.0 : (double) this.total.sum() / count;
+    }
+
+    /**
+     * Returns maximum of recorded values
+     *
+     * @return maximum latency in nanoseconds
+     */
+    public long getMax() {
+        return this.max.get();
+    }
+
+    /**
+     * Returns upper bound of the bucket holding the input percentile (0 if nothing was recorded)
+     *
+     * @param percentile - input percentile in the range [0, 100]
+     * @return latency in nanoseconds
+     */
+    public long getPercentile(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException(String.format("Invalid argument: percentile {%s} should be in the range [0, 100]", percentile));
+        }
+        long total = 0;
+        for (int i = 0; i < this.counts.length(); i++) {
+            total += this.counts.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < this.counts.length(); i++) {
+            seen += this.counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), this.getMax());
+            }
+        }
+        return this.getMax();
+    }
+
+    /**
+     * Resets all recorded values
+     */
+    public void reset() {
+        for (int i = 0; i < this.counts.length(); i++) {
+            this.counts.set(i, 0);
+        }
+        this.count.reset();
+        this.total.reset();
+        this.max.reset();
+    }
+
+    private static int indexOf(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (exponent << SUB_BUCKET_BITS) + (int) ((value >>> (exponent - 1)) & (SUB_BUCKETS - 1));
+    }
+
+    private static long upperBoundOf(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int exponent = index >>> SUB_BUCKET_BITS;
+        final long base = (long) (SUB_BUCKETS | (index & (SUB_BUCKETS - 1))) << (exponent - 1);
+        return base + (1L << (exponent - 1)) - 1;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.impl;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.DelegatedRecursiveTask;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Odd product recursive task implementation (product of odd numbers in the range [from, to] by binary splitting)
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class OddProductRecursiveTask extends DelegatedRecursiveTask<OddProductRecursiveTask.Range, BigInteger, OddProductRecursiveTask> {
+
+    /**
+     * Default number of odd factors processed sequentially
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 12;
+
+    private final int threshold;
+
+    public OddProductRecursiveTask(final long from, final long to) {
+        this(new Range(from | 1, (to - 1) | 1), DEFAULT_THRESHOLD);
+    }
+
+    public OddProductRecursiveTask(final Range value, final int threshold) {
+        super(value);
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected List<OddProductRecursiveTask> createSubtasks() {
+        final Range range = this.getValue();
+        final long middle = range.getFrom() + 2 * (range.size() / 2);
+        return Arrays.asList(
+            new OddProductRecursiveTask(new Range(range.getFrom(), middle - 2), this.threshold),
+            new OddProductRecursiveTask(new Range(middle, range.getTo()), this.threshold)
+        );
+    }
+
+    @Override
+    protected boolean validateCondition() {
+        return this.getValue().size() > this.threshold;
+    }
+
+    @Override
+    protected BigInteger process(final Range value) {
+        final long[] partials = new long[(int) Math.max(value.size(), 1)];
+        int size = 0;
+        long product = 1;
+        for (long factor = value.getFrom(); factor <= value.getTo(); factor += 2) {
+            if (product > Long.MAX_VALUE / factor) {
+                partials[size++] = product;
+                product = factor;
+            } else {
+                product *= factor;
+            }
+        }
+        partials[size++] = product;
+        return product(partials, 0, size);
+    }
+
+    @Override
+    protected BigInteger reduceData(final BigInteger first, final BigInteger second) {
+        return first.multiply(second);
+    }
+
+    /**
+     * Returns balanced product of the partial products in the range [from, to)
+     *
+     * @param partials - partial products
+     * @param from     - first index (inclusive)
+     * @param to       - last index (exclusive)
+     * @return product of the partial products
+     */
+    private static BigInteger product(final long[] partials, final int from, final int to) {
+        if (to - from == 1) {
+            return BigInteger.valueOf(partials[from]);
+        }
+        final int middle = (from + to) >>> 1;
+        return product(partials, from, middle).multiply(product(partials, middle, to));
+    }
+
+    /**
+     * Range of odd numbers (both bounds are odd and inclusive, empty if from is greater than to)
+     */
+    @Data
+    public static class Range {
+
+        private final long from;
+        private final long to;
+
+        /**
+         * Returns number of odd numbers in the range
+         *
+         * @return number of odd numbers
+         */
+        public long size() {
+            return (this.from > this.to) ? 0 : (this.to - this.from) / 2 + 1;
+        }
+    }
+}
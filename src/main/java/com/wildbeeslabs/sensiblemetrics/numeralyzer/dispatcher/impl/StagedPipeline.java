@@ -0,0 +1,212 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Staged pipeline implementation (source, map stages and sink run concurrently on dedicated threads connected by
+ * bounded queues, so a slow stage blocks its producers instead of buffering; every stage keeps the input order)
+ *
+ * @param <T> - {@link Object}
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+public final class StagedPipeline<T> {
+
+    /**
+     * Default Logger instance
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(StagedPipeline.class);
+    /**
+     * Default capacity of the queue between two stages
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+    /**
+     * Default end of stream marker
+     */
+    private static final Object END = new Object();
+
+    private final String name;
+    private final Iterator<?> source;
+    private final int capacity;
+    private final List<Stage> stages;
+
+    private StagedPipeline(final String name, final Iterator<?> source, final int capacity, final List<Stage> stages) {
+        this.name = name;
+        this.source = source;
+        this.capacity = capacity;
+        this.stages = stages;
+    }
+
+    /**
+     * Returns new pipeline reading elements from the input source
+     *
+     * @param name     - pipeline name (used as thread name prefix)
+     * @param source   - input source
+     * @param capacity - capacity of the queue between two stages
+     * @param <T>      type of source element
+     * @return staged pipeline
+     */
+    public static <T> StagedPipeline<T> from(final String name, final Iterator<? extends T> source, final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(String.format("Invalid argument: capacity {%s} should be greater than 0", capacity));
+        }
+        return new StagedPipeline<>(Objects.requireNonNull(name), Objects.requireNonNull(source), capacity, Collections.emptyList());
+    }
+
+    /**
+     * Returns new pipeline with the input stage appended
+     *
+     * @param name     - stage name
+     * @param function - stage function
+     * @param <R>      type of stage output element
+     * @return staged pipeline
+     */
+    public <R> StagedPipeline<R> map(final String name, final Function<? super T, ? extends R> function) {
+        final List<Stage> stages = new ArrayList<>(this.stages);
+        stages.add(new Stage(name, Objects.requireNonNull(function)));
+        return new StagedPipeline<>(this.name, this.source, this.capacity, stages);
+    }
+
+    /**
+     * Runs the pipeline into the input sink and waits for completion
+     *
+     * @param name - sink name
+     * @param sink - sink consumer
+     * @throws CompletionException if any stage fails (all stages are interrupted, the cause is the first failure)
+     */
+    public void to(final String name, final Consumer<? super T> sink) {
+        Objects.requireNonNull(sink);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final List<Thread> threads = new ArrayList<>(this.stages.size() + 2);
+        BlockingQueue<Object> input = new ArrayBlockingQueue<>(this.capacity);
+        threads.add(this.newThread("source", failure, threads, this.sourceLoop(input)));
+        for (final Stage stage : this.stages) {
+            final BlockingQueue<Object> output = new ArrayBlockingQueue<>(this.capacity);
+            threads.add(this.newThread(stage.name, failure, threads, stageLoop(input, output, stage.function)));
+            input = output;
+        }
+        threads.add(this.newThread(name, failure, threads, sinkLoop(input, sink)));
+        threads.forEach(Thread::start);
+        if (Objects.nonNull(failure.get())) {
+            // a stage may fail before the later stages are started, when its interrupts are lost
+            threads.forEach(Thread::interrupt);
+        }
+        try {
+            for (final Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException ex) {
+            threads.forEach(Thread::interrupt);
+            Thread.currentThread().interrupt();
+            throw new CompletionException(ex);
+        }
+        if (Objects.nonNull(failure.get())) {
+            throw new CompletionException(failure.get());
+        }
+    }
+
+    private Thread newThread(final String stage, final AtomicReference<Throwable> failure, final List<Thread> threads, final Loop loop) {
+        final Thread thread = new Thread(() -> {
+            try {
+                loop.run();
+            } catch (InterruptedException ex) {
+                LOGGER.debug("StagedPipeline: stage {{}} of pipeline {{}} was interrupted", stage, this.name);
+            } catch (RuntimeException | Error ex) {
+                if (failure.compareAndSet(null, ex)) {
+                    LOGGER.error("ERROR: stage=({}) of pipeline=({}) failed, message=({})", stage, this.name, ex.getMessage());
+                    threads.forEach(Thread::interrupt);
+                }
+            }
+        }, this.name + "-" + stage);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private Loop sourceLoop(final BlockingQueue<Object> output) {
+        return () -> {
+            while (this.source.hasNext()) {
+                output.put(this.source.next());
+            }
+            output.put(END);
+        };
+    }
+
+    private static Loop stageLoop(final BlockingQueue<Object> input, final BlockingQueue<Object> output, final Function<Object, ?> function) {
+        return () -> {
+            for (Object element = input.take(); element != END; element = input.take()) {
+                output.put(function.apply(element));
+            }
+            output.put(END);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Loop sinkLoop(final BlockingQueue<Object> input, final Consumer<? super T> sink) {
+        return () -> {
+            for (Object element = input.take(); element != END; element = input.take()) {
+                sink.accept((T) element);
+            }
+        };
+    }
+
+    /**
+     * Stage body which may block on queues
+     */
+    @FunctionalInterface
+    private interface Loop {
+
+        void run() throws InterruptedException;
+    }
+
+    /**
+     * Named stage function
+     */
+    private static final class Stage {
+
+        private final String name;
+        private final Function<Object, ?> function;
+
+        @SuppressWarnings("unchecked")
+        private Stage(final String name, final Function<?, ?> function) {
+            this.name = name;
+            this.function = (Function<Object, ?>) function;
+        }
+    }
+}
@@ -42,13 +42,39 @@ public interface IGenericLexicalToken<T extends CharSequence> extends CharSequen
      * Default lexical token comparator
      */
     LexicalTokenComparator<? extends CharSequence> DEFAULT_TOKEN_COMPARATOR = new LexicalTokenComparator<>();
+    /**
+     * Default lexical token identity mode (other modes are chosen per processor)
+     */
+    IdentityMode DEFAULT_IDENTITY_MODE = IdentityMode.RANDOM;
+
+    /**
+     * Lexical token identity mode enumeration
+     */
+    enum IdentityMode {
+        /**
+         * Random UUID created with the token
+         */
+        RANDOM,
+        /**
+         * UUID built from the per-run identifier and a monotonic sequence number assigned with the token
+         */
+        SEQUENCE,
+        /**
+         * Random UUID created on the first {@link IGenericLexicalToken#getId()} call
+         */
+        LAZY,
+        /**
+         * No identifier ({@link IGenericLexicalToken#getId()} returns null)
+         */
+        NONE;
+    }
 
     /**
      * Default lexical token comparator implementation
      *
      * @param <T>
      */
-    class LexicalTokenComparator<T extends Comparable<? super T>> implements Comparator<T> {
+    class LexicalTokenComparator<T extends Comparable<? super T>> implements Comparator<T>, Serializable {
 
         @Override
         public int compare(final T first, final T last) {
@@ -57,7 +83,7 @@ public interface IGenericLexicalToken<T extends CharSequence> extends CharSequen
     }
     
     /**
-     * Returns UUID of the current token
+     * Returns UUID of the current token (null if the token has no identity)
      *
      * @return UUID of the current token
      */
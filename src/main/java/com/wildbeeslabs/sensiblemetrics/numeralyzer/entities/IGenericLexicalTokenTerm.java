@@ -23,6 +23,8 @@
  */
 package com.wildbeeslabs.sensiblemetrics.numeralyzer.entities;
 
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.impl.TokenLengthStatistics;
+
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.List;
@@ -72,4 +74,46 @@ public interface IGenericLexicalTokenTerm<S extends CharSequence, T extends IGen
      * @return number of tokens
      */
     int size();
+
+    /**
+     * Returns number of tokens accounted in the running token length statistics of the current term
+     *
+     * @return number of tokens
+     */
+    long getTokenCount();
+
+    /**
+     * Returns total length of tokens of the current term
+     *
+     * @return total tokens length
+     */
+    long getTokenLengthSum();
+
+    /**
+     * Returns average length of tokens of the current term (zero if the term is empty)
+     *
+     * @return average tokens length
+     */
+    double getAverageTokenLength();
+
+    /**
+     * Returns population variance of lengths of tokens of the current term (zero if the term is empty)
+     *
+     * @return variance of tokens length
+     */
+    double getTokenLengthVariance();
+
+    /**
+     * Returns snapshot of running token length statistics of the current term
+     *
+     * @return token length statistics
+     */
+    TokenLengthStatistics getLengthStatistics();
+
+    /**
+     * Merges tokens and token length statistics of the input term (built separately, e.g. on another thread) into the current term
+     *
+     * @param term - term to be merged
+     */
+    void merge(final IGenericLexicalTokenTerm<S, ? extends T> term);
 }
@@ -0,0 +1,73 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.entities;
+
+import java.io.Serializable;
+
+/**
+ * Columnar lexical token batch interface declaration (struct of arrays: the chars of all tokens are stored in one
+ * contiguous array, token i occupies {@code getChars()[getOffsets()[i] .. getOffsets()[i] + getLengths()[i])})
+ *
+ * @author alexander.rogalskiy
+ * @version 1.0
+ * @since 2018-11-30
+ */
+public interface ITokenBatch extends Serializable {
+
+    /**
+     * Returns number of tokens of the current batch
+     *
+     * @return number of tokens
+     */
+    int size();
+
+    /**
+     * Returns backing array of token chars (valid up to the end of the last token)
+     *
+     * @return array of token chars
+     */
+    char[] getChars();
+
+    /**
+     * Returns backing array of token offsets (valid up to {@link #size()})
+     *
+     * @return array of token offsets
+     */
+    int[] getOffsets();
+
+    /**
+     * Returns backing array of token lengths (valid up to {@link #size()})
+     *
+     * @return array of token lengths
+     */
+    int[] getLengths();
+
+    /**
+     * Returns zero-copy view of the token at the input index
+     *
+     * @param index - token index
+     * @return token view
+     */
+    CharSequence token(final int index);
+}
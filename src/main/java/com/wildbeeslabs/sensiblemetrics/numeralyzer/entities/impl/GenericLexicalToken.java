@@ -28,9 +28,13 @@ import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.IGenericLexicalToke
 import lombok.*;
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.util.Comparator;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Abstract generic lexical token class to store information on a raw data chunk
@@ -41,15 +45,31 @@ import java.util.UUID;
  * @since 2018-11-30
  */
 @Data
-@EqualsAndHashCode(exclude = "id")
-@ToString
+@EqualsAndHashCode(exclude = {"id", "identity", "sequence"})
+@ToString(exclude = {"id", "identity", "sequence"})
 public abstract class GenericLexicalToken<T extends CharSequence> implements IGenericLexicalToken<T> {
 
     /**
-     * Unique token identifier
+     * Default token sequence number generator (per run)
      */
+    private static final AtomicLong SEQUENCE_GENERATOR = new AtomicLong();
+
+    /**
+     * Unique token identifier (created on demand unless the identity mode is {@link IdentityMode#RANDOM})
+     */
+    @Setter(AccessLevel.NONE)
+    private volatile UUID id;
+    /**
+     * Token identity mode
+     */
+    @Setter(AccessLevel.NONE)
+    private final IdentityMode identity;
+    /**
+     * Token sequence number (only for {@link IdentityMode#SEQUENCE})
+     */
+    @Getter(AccessLevel.NONE)
     @Setter(AccessLevel.NONE)
-    private final UUID id;
+    private final long sequence;
     /**
      * Token comparator
      */
@@ -82,11 +102,41 @@ public abstract class GenericLexicalToken<T extends CharSequence> implements IGe
      * @param comparator - input data comparator
      */
     public GenericLexicalToken(final T data, final Comparator<? super T> comparator) {
-        this.id = UUID.randomUUID();
+        this(data, comparator, DEFAULT_IDENTITY_MODE);
+    }
+
+    /**
+     * Default constructor with input data to store, data comparator and identity mode
+     *
+     * @param data       - input data to store
+     * @param comparator - input data comparator
+     * @param identity   - token identity mode
+     */
+    public GenericLexicalToken(final T data, final Comparator<? super T> comparator, final IdentityMode identity) {
+        this.identity = Objects.requireNonNull(identity);
+        this.sequence = (identity == IdentityMode.SEQUENCE) ? SEQUENCE_GENERATOR.getAndIncrement() : 0;
+        this.id = (identity == IdentityMode.RANDOM) ? UUID.randomUUID() : null;
         this.data = data;
         this.comparator = comparator;
     }
 
+    /**
+     * Returns UUID of the current token by identity mode (null for {@link IdentityMode#NONE})
+     *
+     * @return UUID of the current token
+     */
+    @Override
+    public UUID getId() {
+        if (Objects.isNull(this.id) && this.identity != IdentityMode.NONE) {
+            synchronized (this) {
+                if (Objects.isNull(this.id)) {
+                    this.id = (this.identity == IdentityMode.SEQUENCE) ? new UUID(RunIdentifierHolder.RUN_ID, this.sequence) : UUID.randomUUID();
+                }
+            }
+        }
+        return this.id;
+    }
+
     /**
      * Returns length of the current token (in chars)
      *
@@ -119,4 +169,23 @@ public abstract class GenericLexicalToken<T extends CharSequence> implements IGe
     public CharSequence subSequence(int start, int end) {
         return Optional.ofNullable(this.data).map(data -> data.subSequence(start, end)).orElse(StringUtils.EMPTY);
     }
+
+    /**
+     * Creates the identifier before serialization, so a lazily identified token keeps its identifier once deserialized
+     *
+     * @param out - object output stream
+     * @throws IOException if the token cannot be written
+     */
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        this.getId();
+        out.defaultWriteObject();
+    }
+
+    /**
+     * Per-run identifier holder (initialized on the first sequence identifier request)
+     */
+    private static final class RunIdentifierHolder {
+
+        private static final long RUN_ID = UUID.randomUUID().getMostSignificantBits();
+    }
 }
@@ -45,8 +45,8 @@ import java.util.Objects;
  * @version 1.0
  * @since 2018-11-30
  */
-@EqualsAndHashCode
-@ToString
+@EqualsAndHashCode(exclude = "statistics")
+@ToString(exclude = "statistics")
 public abstract class GenericLexicalTokenTerm<S extends CharSequence, T extends IGenericLexicalToken<S>> implements IGenericLexicalTokenTerm<S, T> {
 
     /**
@@ -54,12 +54,17 @@ public abstract class GenericLexicalTokenTerm<S extends CharSequence, T extends
      */
     @Setter(AccessLevel.NONE)
     protected final List<T> tokens;
+    /**
+     * Running token length statistics (maintained on every token update)
+     */
+    private final TokenLengthStatistics statistics;
 
     /**
      * Default constructor
      */
     public GenericLexicalTokenTerm() {
         this.tokens = new ArrayList<>();
+        this.statistics = new TokenLengthStatistics();
     }
 
     /**
@@ -70,8 +75,9 @@ public abstract class GenericLexicalTokenTerm<S extends CharSequence, T extends
     @Override
     public void setTokens(final Collection<? extends T> tokens) {
         this.tokens.clear();
+        this.statistics.clear();
         if (Objects.nonNull(tokens)) {
-            this.tokens.addAll(tokens);
+            tokens.stream().filter(Objects::nonNull).forEach(this::addToken);
         }
     }
 
@@ -84,6 +90,7 @@ public abstract class GenericLexicalTokenTerm<S extends CharSequence, T extends
     public void addToken(final T token) {
         if (Objects.nonNull(token)) {
             this.tokens.add(token);
+            this.statistics.accept(token.length());
         }
     }
 
@@ -94,8 +101,8 @@ public abstract class GenericLexicalTokenTerm<S extends CharSequence, T extends
      */
     @Override
     public void removeToken(final T token) {
-        if (Objects.nonNull(token)) {
-            this.tokens.remove(token);
+        if (Objects.nonNull(token) && this.tokens.remove(token)) {
+            this.statistics.remove(token.length());
         }
     }
 
@@ -109,6 +116,74 @@ public abstract class GenericLexicalTokenTerm<S extends CharSequence, T extends
         return this.tokens.size();
     }
 
+    /**
+     * Returns number of tokens of the current term
+     *
+     * @return number of tokens
+     */
+    @Override
+    public long getTokenCount() {
+        return this.statistics.getCount();
+    }
+
+    /**
+     * Returns total length of tokens of the current term
+     *
+     * @return total tokens length
+     */
+    @Override
+    public long getTokenLengthSum() {
+        return this.statistics.getSum();
+    }
+
+    /**
+     * Returns average length of tokens of the current term (zero if the term is empty)
+     *
+     * @return average tokens length
+     */
+    @Override
+    public double getAverageTokenLength() {
+        return this.statistics.getAverage();
+    }
+
+    /**
+     * Returns population variance of lengths of tokens of the current term (zero if the term is empty)
+     *
+     * @return variance of tokens length
+     */
+    @Override
+    public double getTokenLengthVariance() {
+        return this.statistics.getVariance();
+    }
+
+    /**
+     * Returns snapshot of running token length statistics of the current term (use the accessors above for single values)
+     *
+     * @return token length statistics
+     */
+    @Override
+    public TokenLengthStatistics getLengthStatistics() {
+        return new TokenLengthStatistics(this.statistics);
+    }
+
+    /**
+     * Merges tokens and token length statistics of the input term into the current term
+     *
+     * @param term - term to be merged
+     */
+    @Override
+    public void merge(final IGenericLexicalTokenTerm<S, ? extends T> term) {
+        if (Objects.isNull(term)) {
+            return;
+        }
+        if (term instanceof GenericLexicalTokenTerm) {
+            this.tokens.addAll(((GenericLexicalTokenTerm<S, ? extends T>) term).tokens);
+            this.statistics.combine(((GenericLexicalTokenTerm<S, ? extends T>) term).statistics);
+        } else {
+            term.getTokens().forEach(this::addToken);
+        }
+    }
+
     /**
      * Returns formatted string of tokens in the current term
      *
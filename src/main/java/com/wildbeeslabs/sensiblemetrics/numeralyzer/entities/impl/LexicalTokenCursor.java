@@ -0,0 +1,115 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.impl;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.utils.DelimiterTokenizer;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Objects;
+
+/**
+ * Lexical token cursor to iterate over tokens of a char sequence without allocations. Tokens are split by the
+ * {@link DelimiterTokenizer} (the default token delimiters unless given), trimmed, lower-cased and blank tokens are
+ * skipped (as the default lexical token processor does), the current token is a single reused {@link LexicalTokenView}
+ * repositioned by {@link #next()}.
+ *
+ * @author alexander.rogalskiy
+ * @version 1.0
+ * @since 2018-11-30
+ */
+public class LexicalTokenCursor {
+
+    /**
+     * Current token view (reused)
+     */
+    private final LexicalTokenView token = new LexicalTokenView(StringUtils.EMPTY, 0, 0, true);
+    private final DelimiterTokenizer tokenizer;
+    private final int[] range = new int[2];
+    private CharSequence source = StringUtils.EMPTY;
+    private int position;
+
+    /**
+     * Default constructor
+     */
+    public LexicalTokenCursor() {
+        this(DelimiterTokenizer.DEFAULT);
+    }
+
+    /**
+     * Default constructor with delimiter tokenizer
+     *
+     * @param tokenizer - delimiter tokenizer
+     */
+    public LexicalTokenCursor(final DelimiterTokenizer tokenizer) {
+        this.tokenizer = Objects.requireNonNull(tokenizer);
+    }
+
+    /**
+     * Default constructor with input char sequence
+     *
+     * @param source - input char sequence
+     */
+    public LexicalTokenCursor(final CharSequence source) {
+        this();
+        this.reset(source);
+    }
+
+    /**
+     * Resets the cursor to the beginning of the input char sequence
+     *
+     * @param source - input char sequence
+     * @return current cursor
+     */
+    public LexicalTokenCursor reset(final CharSequence source) {
+        this.source = Objects.requireNonNull(source);
+        this.position = 0;
+        return this;
+    }
+
+    /**
+     * Moves the cursor to the next token
+     *
+     * @return true - if the next token is available, false - otherwise
+     */
+    public boolean next() {
+        if (this.position < 0) {
+            return false;
+        }
+        this.position = this.tokenizer.nextToken(this.source, this.position, this.range);
+        if (this.position < 0) {
+            return false;
+        }
+        this.token.wrap(this.source, this.range[0], this.range[1] - this.range[0], true);
+        return true;
+    }
+
+    /**
+     * Returns the current token (valid until the next {@link #next()} call, use {@link LexicalTokenView#copy()} to keep it)
+     *
+     * @return current token view
+     */
+    public LexicalTokenView token() {
+        return this.token;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.impl;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.IGenericLexicalToken;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Flyweight lexical token implementation as a zero-copy (offset, length) view over a shared backing char sequence
+ * (line, {@link java.nio.CharBuffer} of a chunk, etc.), characters are served directly from the backing sequence
+ * (optionally lower-cased per char by {@link Character#toLowerCase(char)}, the same rule as
+ * {@link com.wildbeeslabs.sensiblemetrics.numeralyzer.utils.DelimiterTokenizer}). The view has no identity and is serialized as a view over a copy of its characters.
+ *
+ * @author alexander.rogalskiy
+ * @version 1.0
+ * @since 2018-11-30
+ */
+public class LexicalTokenView implements IGenericLexicalToken<CharSequence>, Comparable<LexicalTokenView> {
+
+    private CharSequence source;
+    private int offset;
+    private int length;
+    private boolean lowerCase;
+
+    /**
+     * Default constructor with backing sequence range
+     *
+     * @param source - backing char sequence
+     * @param offset - first char offset
+     * @param length - number of chars
+     */
+    public LexicalTokenView(final CharSequence source, final int offset, final int length) {
+        this(source, offset, length, false);
+    }
+
+    /**
+     * Default constructor with backing sequence range and lower case mode
+     *
+     * @param source    - backing char sequence
+     * @param offset    - first char offset
+     * @param length    - number of chars
+     * @param lowerCase - lower case mode, true - chars are lower-cased on access, false - otherwise
+     */
+    public LexicalTokenView(final CharSequence source, final int offset, final int length, final boolean lowerCase) {
+        this.wrap(source, offset, length, lowerCase);
+    }
+
+    /**
+     * Repositions the current view over the backing sequence range
+     *
+     * @param source    - backing char sequence
+     * @param offset    - first char offset
+     * @param length    - number of chars
+     * @param lowerCase - lower case mode
+     */
+    void wrap(final CharSequence source, final int offset, final int length, final boolean lowerCase) {
+        Objects.requireNonNull(source);
+        if (offset < 0 || length < 0 || offset > source.length() - length) {
+            throw new IndexOutOfBoundsException(String.format("Invalid argument: range [%s, %s) is out of bounds {%s}", offset, offset + length, source.length()));
+        }
+        this.source = source;
+        this.offset = offset;
+        this.length = length;
+        this.lowerCase = lowerCase;
+    }
+
+    /**
+     * Returns new view over the same backing sequence range (to keep a token produced by a {@link LexicalTokenCursor})
+     *
+     * @return new lexical token view
+     */
+    public LexicalTokenView copy() {
+        return new LexicalTokenView(this.source, this.offset, this.length, this.lowerCase);
+    }
+
+    /**
+     * Returns null (views have no identity)
+     *
+     * @return null
+     */
+    @Override
+    public UUID getId() {
+        return null;
+    }
+
+    /**
+     * Returns the current view as its data
+     *
+     * @return current view
+     */
+    @Override
+    public CharSequence getData() {
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= this.length) {
+            throw new IndexOutOfBoundsException(String.format("Invalid argument: index {%s} is out of bounds {%s}", index, this.length));
+        }
+        final char c = this.source.charAt(this.offset + index);
+        return this.lowerCase ? Character.toLowerCase(c) : c;
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || start > end || end > this.length) {
+            throw new IndexOutOfBoundsException(String.format("Invalid argument: range [%s, %s) is out of bounds {%s}", start, end, this.length));
+        }
+        return new LexicalTokenView(this.source, this.offset + start, end - start, this.lowerCase);
+    }
+
+    @Override
+    public int compareTo(final LexicalTokenView other) {
+        final int limit = Math.min(this.length, other.length);
+        for (int i = 0; i < limit; i++) {
+            final int diff = this.charAt(i) - other.charAt(i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return this.length - other.length;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof LexicalTokenView) || ((LexicalTokenView) other).length != this.length) {
+            return false;
+        }
+        return this.compareTo((LexicalTokenView) other) == 0;
+    }
+
+    /**
+     * Returns hash code of the current view (the same as {@link String#hashCode()} of its chars)
+     *
+     * @return hash code
+     */
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < this.length; i++) {
+            hash = 31 * hash + this.charAt(i);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        if (this.length == 0) {
+            return StringUtils.EMPTY;
+        }
+        final char[] chars = new char[this.length];
+        for (int i = 0; i < this.length; i++) {
+            chars[i] = this.charAt(i);
+        }
+        return new String(chars);
+    }
+
+    private Object writeReplace() {
+        return new LexicalTokenView(this.toString(), 0, this.length);
+    }
+}
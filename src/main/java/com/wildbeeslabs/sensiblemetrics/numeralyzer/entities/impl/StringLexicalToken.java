@@ -65,4 +65,25 @@ public class StringLexicalToken extends GenericLexicalToken<String> {
     public StringLexicalToken(final String value, final Comparator<? super String> comparator) {
         super(value, comparator);
     }
+
+    /**
+     * Default constructor with input data and identity mode
+     *
+     * @param value    - input data to store
+     * @param identity - token identity mode
+     */
+    public StringLexicalToken(final String value, final IdentityMode identity) {
+        this(value, (Comparator<? super String>) DEFAULT_TOKEN_COMPARATOR, identity);
+    }
+
+    /**
+     * Default constructor with input data, data comparator and identity mode
+     *
+     * @param value      - input data to store
+     * @param comparator - input data comparator
+     * @param identity   - token identity mode
+     */
+    public StringLexicalToken(final String value, final Comparator<? super String> comparator, final IdentityMode identity) {
+        super(value, comparator, identity);
+    }
 }
@@ -0,0 +1,152 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.impl;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.ITokenBatch;
+import lombok.ToString;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Columnar lexical token batch implementation (arrays grow on demand, the batch can be cleared and refilled)
+ *
+ * @author alexander.rogalskiy
+ * @version 1.0
+ * @since 2018-11-30
+ */
+@ToString(exclude = {"chars", "offsets", "lengths"})
+public class TokenBatch implements ITokenBatch {
+
+    /**
+     * Default initial number of tokens
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 10;
+    /**
+     * Default initial number of chars per token
+     */
+    private static final int DEFAULT_TOKEN_LENGTH = 8;
+
+    private char[] chars;
+    private int[] offsets;
+    private int[] lengths;
+    private int size;
+    private int charCount;
+
+    /**
+     * Default constructor
+     */
+    public TokenBatch() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Default constructor with initial number of tokens
+     *
+     * @param capacity - initial number of tokens
+     */
+    public TokenBatch(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException(String.format("Invalid argument: capacity {%s} should not be negative", capacity));
+        }
+        this.chars = new char[capacity * DEFAULT_TOKEN_LENGTH];
+        this.offsets = new int[capacity];
+        this.lengths = new int[capacity];
+    }
+
+    /**
+     * Appends chars of the input range as a new token
+     *
+     * @param source - input char sequence
+     * @param from   - first char offset
+     * @param to     - last char offset (exclusive)
+     */
+    public void add(final CharSequence source, final int from, final int to) {
+        Objects.requireNonNull(source);
+        if (from < 0 || from > to || to > source.length()) {
+            throw new IndexOutOfBoundsException(String.format("Invalid argument: range [%s, %s) is out of bounds {%s}", from, to, source.length()));
+        }
+        final int length = to - from;
+        this.ensureCapacity(length);
+        if (source instanceof String) {
+            ((String) source).getChars(from, to, this.chars, this.charCount);
+        } else {
+            for (int i = 0; i < length; i++) {
+                this.chars[this.charCount + i] = source.charAt(from + i);
+            }
+        }
+        this.offsets[this.size] = this.charCount;
+        this.lengths[this.size] = length;
+        this.charCount += length;
+        this.size++;
+    }
+
+    /**
+     * Removes all tokens (backing arrays are kept for reuse)
+     */
+    public void clear() {
+        this.size = 0;
+        this.charCount = 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public char[] getChars() {
+        return this.chars;
+    }
+
+    @Override
+    public int[] getOffsets() {
+        return this.offsets;
+    }
+
+    @Override
+    public int[] getLengths() {
+        return this.lengths;
+    }
+
+    @Override
+    public CharSequence token(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException(String.format("Invalid argument: index {%s} is out of bounds {%s}", index, this.size));
+        }
+        return new LexicalTokenView(CharBuffer.wrap(this.chars, 0, this.charCount), this.offsets[index], this.lengths[index]);
+    }
+
+    private void ensureCapacity(final int length) {
+        if (this.size == this.offsets.length) {
+            final int capacity = Math.max(DEFAULT_CAPACITY, this.offsets.length << 1);
+            this.offsets = Arrays.copyOf(this.offsets, capacity);
+            this.lengths = Arrays.copyOf(this.lengths, capacity);
+        }
+        if (this.charCount + length > this.chars.length) {
+            this.chars = Arrays.copyOf(this.chars, Math.max(this.charCount + length, this.chars.length << 1));
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.impl;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.LongConsumer;
+
+/**
+ * Running token length statistics supporting removal and merging (count and sum are exact, mean and variance are
+ * maintained by Welford's algorithm and merged by Chan's formula, min and max are served from a sorted histogram of lengths).
+ * Accessors follow {@link java.util.LongSummaryStatistics}, which cannot be extended as its getters are final.
+ *
+ * @author alexander.rogalskiy
+ * @version 1.0
+ * @since 2018-11-30
+ */
+public class TokenLengthStatistics implements LongConsumer, Serializable {
+
+    /**
+     * Histogram of lengths (length to number of tokens)
+     */
+    private final NavigableMap<Long, Long> lengths = new TreeMap<>();
+    private long count;
+    private long sum;
+    private double mean;
+    private double m2;
+
+    /**
+     * Default constructor
+     */
+    public TokenLengthStatistics() {
+    }
+
+    /**
+     * Default copy constructor
+     *
+     * @param other - statistics to copy
+     */
+    public TokenLengthStatistics(final TokenLengthStatistics other) {
+        this.combine(other);
+    }
+
+    /**
+     * Adds the input length
+     *
+     * @param value - input length
+     */
+    @Override
+    public void accept(final long value) {
+        this.lengths.merge(value, 1L, Long::sum);
+        this.count++;
+        this.sum += value;
+        final double delta = value - this.mean;
+        this.mean += delta / this.count;
+        this.m2 += delta * (value - this.mean);
+    }
+
+    /**
+     * Removes the input length (previously added)
+     *
+     * @param value - input length
+     */
+    public void remove(final long value) {
+        final Long frequency = this.lengths.get(value);
+        if (Objects.isNull(frequency)) {
+            throw new IllegalArgumentException(String.format("Invalid argument: length {%s} is not present", value));
+        }
+        if (frequency == 1) {
+            this.lengths.remove(value);
+        } else {
+            this.lengths.put(value, frequency - 1);
+        }
+        if (this.count == 1) {
+            this.clear();
+            return;
+        }
+        final double previousMean = (this.count * this.mean - value) / (this.count - 1);
+        this.m2 = Math.max(0, this.m2 - (value - previousMean) * (value - this.mean));
+        this.mean = previousMean;
+        this.count--;
+        this.sum -= value;
+    }
+
+    /**
+     * Merges the input statistics into the current one
+     *
+     * @param statistics - statistics to merge
+     */
+    public void combine(final TokenLengthStatistics statistics) {
+        Objects.requireNonNull(statistics);
+        if (statistics.count == 0) {
+            return;
+        }
+        for (final Map.Entry<Long, Long> entry : statistics.lengths.entrySet()) {
+            this.lengths.merge(entry.getKey(), entry.getValue(), Long::sum);
+        }
+        final long total = this.count + statistics.count;
+        final double delta = statistics.mean - this.mean;
+        this.m2 += statistics.m2 + delta * delta * this.count * statistics.count / total;
+        this.mean += delta * statistics.count / total;
+        this.count = total;
+        this.sum += statistics.sum;
+    }
+
+    /**
+     * Removes all lengths
+     */
+    public void clear() {
+        this.lengths.clear();
+        this.count = 0;
+        this.sum = 0;
+        this.mean = 0;
+        this.m2 = 0;
+    }
+
+    /**
+     * Returns number of lengths
+     *
+     * @return number of lengths
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns sum of lengths
+     *
+     * @return sum of lengths
+     */
+    public long getSum() {
+        return this.sum;
+    }
+
+    /**
+     * Returns minimum length ({@link Long#MAX_VALUE} if empty)
+     *
+     * @return minimum length
+     */
+    public long getMin() {
+        return this.lengths.isEmpty() ? Long.MAX_VALUE : this.lengths.firstKey();
+    }
+
+    /**
+     * Returns maximum length ({@link Long#MIN_VALUE} if empty)
+     *
+     * @return maximum length
+     */
+    public long getMax() {
+        return this.lengths.isEmpty() ? Long.MIN_VALUE : this.lengths.lastKey();
+    }
+
+    /**
+     * Returns arithmetic mean of lengths (zero if empty)
+     *
+     * @return mean of lengths
+     */
+    public double getAverage() {
+        return (this.count > 0) ? (double) this.sum / this.count : 0.0d;
+    }
+
+    /**
+     * Returns population variance of lengths (zero if empty)
+     *
+     * @return variance of lengths
+     */
+    public double getVariance() {
+        return (this.count > 0) ? this.m2 / this.count : 0.0d;
+    }
+
+    /**
+     * Returns population standard deviation of lengths (zero if empty)
+     *
+     * @return standard deviation of lengths
+     */
+    public double getStandardDeviation() {
+        return Math.sqrt(this.getVariance());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s{count=%d, sum=%d, min=%d, average=%f, max=%d, variance=%f}",
+            this.getClass().getSimpleName(), this.getCount(), this.getSum(), this.getMin(), this.getAverage(), this.getMax(), this.getVariance());
+    }
+}
@@ -30,5 +30,5 @@ package com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial;
  * @version 1.0
  * @since 2018-11-30
  */
-public interface IComplexFactorialMetrics extends IFactorialMetrics<Long, Long> {
+public interface IComplexFactorialMetrics extends ILongFactorialMetrics {
 }
@@ -0,0 +1,64 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial;
+
+/**
+ * Inverse factorial metrics interface declaration
+ *
+ * @author alexander.rogalskiy
+ * @version 1.0
+ * @since 2018-11-30
+ */
+public interface IInverseFactorialMetrics extends ISimpleFactorialMetrics {
+
+    /**
+     * Default maximum number of trailing zeros supported by inverse queries
+     */
+    long MAX_TRAILING_ZEROS = Long.MAX_VALUE / DIVISOR_5;
+
+    /**
+     * Returns the smallest value whose factorial has at least the input number of trailing zeros
+     *
+     * @param zeros - input number of trailing zeros
+     * @return the smallest factorized value
+     */
+    long lowerBoundOf(final long zeros);
+
+    /**
+     * Stores the smallest values whose factorials have at least the input numbers of trailing zeros into the output array
+     * (ascending input reuses the search bracket of the previous query)
+     *
+     * @param zeros  - input numbers of trailing zeros
+     * @param output - output array of the smallest factorized values
+     */
+    void lowerBoundOf(final long[] zeros, final long[] output);
+
+    /**
+     * Returns all values whose factorials have exactly the input number of trailing zeros (either five values or none)
+     *
+     * @param zeros - input number of trailing zeros
+     * @return array of factorized values
+     */
+    long[] valuesOf(final long zeros);
+}
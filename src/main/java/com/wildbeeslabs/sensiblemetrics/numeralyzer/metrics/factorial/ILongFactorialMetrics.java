@@ -0,0 +1,71 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial;
+
+import java.nio.LongBuffer;
+
+/**
+ * Long factorial metrics interface declaration (primitive and batch operations)
+ *
+ * @author alexander.rogalskiy
+ * @version 1.0
+ * @since 2018-11-30
+ */
+public interface ILongFactorialMetrics extends IFactorialMetrics<Long, Long> {
+
+    /**
+     * Returns number of trailing zeros calculated based on the initial primitive input value
+     *
+     * @param value - input value to be factorized
+     * @return number of trailing zeros
+     */
+    long numOfTrailingZeros(final long value);
+
+    /**
+     * Stores numbers of trailing zeros of the input values range into the output array (negative values are masked to zero)
+     *
+     * @param values       - input values to be factorized
+     * @param offset       - input values offset
+     * @param length       - number of input values to be processed
+     * @param output       - output array of trailing zeros
+     * @param outputOffset - output array offset
+     */
+    void numOfTrailingZeros(final long[] values, final int offset, final int length, final long[] output, final int outputOffset);
+
+    /**
+     * Stores numbers of trailing zeros of the input values into the output array (negative values are masked to zero)
+     *
+     * @param values - input values to be factorized
+     * @param output - output array of trailing zeros
+     */
+    void numOfTrailingZeros(final long[] values, final long[] output);
+
+    /**
+     * Stores numbers of trailing zeros of the input values into the output buffer starting at its current position (negative values are masked to zero)
+     *
+     * @param values - input values to be factorized
+     * @param output - output buffer of trailing zeros
+     */
+    void numOfTrailingZeros(final long[] values, final LongBuffer output);
+}
@@ -0,0 +1,64 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial;
+
+/**
+ * Radix factorial metrics interface declaration
+ *
+ * @author alexander.rogalskiy
+ * @version 1.0
+ * @since 2018-11-30
+ */
+public interface IRadixFactorialMetrics extends ILongFactorialMetrics {
+
+    /**
+     * Default radix
+     */
+    long DEFAULT_RADIX = 10;
+
+    /**
+     * Returns number of trailing zeros calculated based on the initial input value in the given radix
+     *
+     * @param value - input value to be factorized
+     * @param radix - input radix (should be greater than 1)
+     * @return number of trailing zeros
+     */
+    long numOfTrailingZeros(final long value, final long radix);
+
+    /**
+     * Stores numbers of trailing zeros of the input values in the given radix into the output array (negative values are masked to zero)
+     *
+     * @param values - input values to be factorized
+     * @param radix  - input radix (should be greater than 1)
+     * @param output - output array of trailing zeros
+     */
+    void numOfTrailingZeros(final long[] values, final long radix, final long[] output);
+
+    /**
+     * Returns default radix of the current metrics
+     *
+     * @return default radix
+     */
+    long getRadix();
+}
@@ -30,5 +30,5 @@ package com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial;
  * @version 1.0
  * @since 2018-11-30
  */
-public interface ISimpleFactorialMetrics extends IFactorialMetrics<Long, Long> {
+public interface ISimpleFactorialMetrics extends ILongFactorialMetrics {
 }
@@ -23,12 +23,17 @@
  */
 package com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.impl;
 
-import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.ICache;
-import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.impl.DelegatedCache;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.CacheStats;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.impl.LongLongCache;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.utils.ManagementUtils;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.IComplexFactorialMetrics;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
+import java.io.Closeable;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Complex factorial metrics implementation
  *
@@ -36,34 +41,146 @@ import lombok.ToString;
  * @version 1.0.0
  * @since 2017-08-07
  */
-@EqualsAndHashCode(callSuper = true)
-@ToString(callSuper = true)
-public class ComplexFactorialMetricsImpl extends BaseFactorialMetricsImpl<Long, Long> implements IComplexFactorialMetrics {
+@EqualsAndHashCode(callSuper = true, exclude = {"name", "twoCacheRegistered", "fiveCacheRegistered"})
+@ToString(callSuper = true, exclude = {"twoCacheRegistered", "fiveCacheRegistered"})
+public class ComplexFactorialMetricsImpl extends LongFactorialMetricsImpl implements IComplexFactorialMetrics, Closeable {
+
+    /**
+     * Default counting cache size
+     */
+    public static final int DEFAULT_CACHE_SIZE = 1 << 16;
+    /**
+     * Default missing count marker
+     */
+    private static final long MISSING = -1;
+    /**
+     * Default instance sequence (discriminates management bean names of the instances)
+     */
+    private static final AtomicLong INSTANCE_SEQUENCE = new AtomicLong();
+
+    /**
+     * Default instance name
+     */
+    private final String name;
+    /**
+     * Default management registration flags (set only for the beans registered by the current instance)
+     */
+    private boolean twoCacheRegistered;
+    private boolean fiveCacheRegistered;
 
     /**
      * Default counting maps
      */
-    private final ICache<Long, Long> mapOfTwo;
-    private final ICache<Long, Long> mapOfFive;
+    private final LongLongCache mapOfTwo;
+    private final LongLongCache mapOfFive;
 
     /**
      * Default constructor
      */
     public ComplexFactorialMetricsImpl() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Default constructor with counting cache size
+     *
+     * @param cacheSize - maximum number of entries in each counting map
+     */
+    public ComplexFactorialMetricsImpl(final int cacheSize) {
         getLogger().debug("Initializing complex factorial metrics...");
-        this.mapOfTwo = new DelegatedCache<>();
-        this.mapOfFive = new DelegatedCache<>();
+        this.mapOfTwo = new LongLongCache(cacheSize);
+        this.mapOfFive = new LongLongCache(cacheSize);
+        this.name = getClass().getSimpleName() + "-" + INSTANCE_SEQUENCE.incrementAndGet();
+    }
+
+    /**
+     * Returns instance name used as the prefix of the management bean names
+     *
+     * @return instance name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Registers statistics beans of the counting caches (the beans stay registered until {@link #close()})
+     *
+     * @return this instance
+     */
+    public synchronized ComplexFactorialMetricsImpl register() {
+        if (!this.twoCacheRegistered) {
+            this.twoCacheRegistered = Objects.nonNull(ManagementUtils.registerCache(this.getTwoCacheName(), this::getTwoCacheStats));
+        }
+        if (!this.fiveCacheRegistered) {
+            this.fiveCacheRegistered = Objects.nonNull(ManagementUtils.registerCache(this.getFiveCacheName(), this::getFiveCacheStats));
+        }
+        return this;
+    }
+
+    /**
+     * Unregisters statistics beans of the counting caches
+     */
+    @Override
+    public synchronized void close() {
+        if (this.twoCacheRegistered) {
+            ManagementUtils.unregisterCache(this.getTwoCacheName());
+            this.twoCacheRegistered = false;
+        }
+        if (this.fiveCacheRegistered) {
+            ManagementUtils.unregisterCache(this.getFiveCacheName());
+            this.fiveCacheRegistered = false;
+        }
+    }
+
+    /**
+     * Returns management name of the cache of powers of two
+     *
+     * @return cache name
+     */
+    public String getTwoCacheName() {
+        return this.name + ".mapOfTwo";
+    }
+
+    /**
+     * Returns management name of the cache of powers of five
+     *
+     * @return cache name
+     */
+    public String getFiveCacheName() {
+        return this.name + ".mapOfFive";
+    }
+
+    /**
+     * Returns statistics of the cache of powers of two
+     *
+     * @return cache statistics
+     */
+    public CacheStats getTwoCacheStats() {
+        synchronized (this.mapOfTwo) {
+            return this.mapOfTwo.stats();
+        }
+    }
+
+    /**
+     * Returns statistics of the cache of powers of five
+     *
+     * @return cache statistics
+     */
+    public CacheStats getFiveCacheStats() {
+        synchronized (this.mapOfFive) {
+            return this.mapOfFive.stats();
+        }
     }
 
     @Override
-    public long numOfTrailingZeros(final Long value) {
+    public long numOfTrailingZeros(final long value) {
         long temp = value;
         if (temp < DIVISOR_5) {
             return 0L;
         }
         long countFive = 0;
         long countTwo = 0;
-        for (int i = 1; i <= temp; i++) {
+        for (long i = 1; i <= temp; i++) {
             if (i % DIVISOR_2 == 0) {
                 countTwo += this.countExistance(i, DIVISOR_2, this.mapOfTwo);
             }
@@ -74,22 +191,21 @@ public class ComplexFactorialMetricsImpl extends BaseFactorialMetricsImpl<Long,
         return (countFive < countTwo) ? countFive : countTwo;
     }
 
-    private long countExistance(long n, long m, ICache<Long, Long> map) {
-        long temp = n;
-        long count = 0;
-        double num = (double) n;
-        while (num / m == n / m) {
-            count++;
-            n = n / m;
-            num = (double) n;
-            if (map.contains(n)) {
-                count += map.read(n);
-                break;
+    private long countExistance(final long value, final long divisor, final LongLongCache map) {
+        synchronized (map) {
+            long temp = value;
+            long count = 0;
+            while (temp % divisor == 0) {
+                count++;
+                temp /= divisor;
+                final long cached = map.getOrDefault(temp, MISSING);
+                if (cached != MISSING) {
+                    count += cached;
+                    break;
+                }
             }
+            map.put(value, count);
+            return count;
         }
-        if (!map.contains(temp)) {
-            map.write(temp, count);
-        }
-        return count;
     }
 }
@@ -0,0 +1,177 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.impl;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.IDigitCountFactorialMetrics;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Digit count factorial metrics implementation (based on Kamenetsky's formula)
+ *
+ * The number of digits of n! is floor(log10(n!)) + 1, where log10(n!) is evaluated by the Stirling series
+ * in double precision together with an error bound. If the fractional part lies within the error bound of
+ * an integer boundary, the series is re-evaluated with {@link BigDecimal} at a fixed precision, so each
+ * query takes constant time.
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2017-08-07
+ */
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class DigitCountFactorialMetricsImpl extends SimpleFactorialMetricsImpl implements IDigitCountFactorialMetrics {
+
+    /**
+     * Maximum value with factorial fitting into long
+     */
+    private static final int MAX_EXACT_VALUE = 20;
+    /**
+     * Default error bound of the double series (in ulps of the dominant term)
+     */
+    private static final double ERROR_ULPS = 16;
+    /**
+     * Default double constants
+     */
+    private static final double LOG_10 = Math.log(10);
+    private static final double HALF_LOG_2PI = 0.5 * Math.log(2 * Math.PI);
+
+    /**
+     * Default high-precision context
+     */
+    private static final MathContext CONTEXT = new MathContext(80, RoundingMode.HALF_EVEN);
+    /**
+     * Default high-precision series tolerance
+     */
+    private static final BigDecimal EPSILON = BigDecimal.ONE.movePointLeft(CONTEXT.getPrecision() + 5);
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
+    private static final BigDecimal HALF = new BigDecimal("0.5");
+    private static final BigDecimal PI = new BigDecimal("3.14159265358979323846264338327950288419716939937510582097494459230781640628620899862803482534211706798");
+    /**
+     * Default high-precision logarithms (ln 2, ln 10 and ln 2pi)
+     */
+    private static final BigDecimal LN_2 = lnReduced(TWO);
+    private static final BigDecimal LN_10 = LN_2.multiply(BigDecimal.valueOf(3)).add(lnReduced(new BigDecimal("1.25")), CONTEXT);
+    private static final BigDecimal LN_2PI = LN_2.multiply(TWO).add(lnReduced(PI.divide(TWO, CONTEXT)), CONTEXT);
+    /**
+     * Stirling series coefficients B(2k) / (2k * (2k - 1))
+     */
+    private static final long[] SERIES_NUMERATORS = {1, -1, 1, -1, 1, -691, 1, -3617, 43867, -174611};
+    private static final long[] SERIES_DENOMINATORS = {12, 360, 1260, 1680, 1188, 360360, 156, 122400, 244188, 125400};
+
+    /**
+     * Default constructor
+     */
+    public DigitCountFactorialMetricsImpl() {
+        getLogger().debug("Initializing digit count factorial metrics...");
+    }
+
+    @Override
+    public long numOfDigits(final long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(String.format("Invalid argument: value {%s} should be non-negative", value));
+        }
+        return digits(value);
+    }
+
+    @Override
+    public void numOfDigits(final long[] values, final long[] output) {
+        checkBounds(values, 0, values.length, output, 0);
+        for (int i = 0; i < values.length; i++) {
+            output[i] = digits(mask(values[i]));
+        }
+    }
+
+    private static long digits(final long value) {
+        if (value <= MAX_EXACT_VALUE) {
+            long factorial = 1;
+            for (long i = 2; i <= value; i++) {
+                factorial *= i;
+            }
+            return Long.toString(factorial).length();
+        }
+        final double n = value;
+        final double ln = Math.log(n);
+        final double n2 = n * n;
+        final double log = (n * (ln - 1) + 0.5 * ln + HALF_LOG_2PI + (1 - (1 - 1 / (3.5 * n2)) / (30 * n2)) / (12 * n)) / LOG_10;
+        final double error = (ERROR_ULPS * Math.ulp(n * ln) + 1 / (1680 * n2 * n2 * n2 * n)) / LOG_10 + ERROR_ULPS * Math.ulp(log);
+        final double floor = Math.floor(log);
+        if (log - floor > error && floor + 1 - log > error && floor + 1 < Long.MAX_VALUE) {
+            return (long) floor + 1;
+        }
+        return Math.addExact(log10(value).setScale(0, RoundingMode.FLOOR).toBigInteger().longValueExact(), 1);
+    }
+
+    /**
+     * Returns high-precision log10(n!) evaluated by the Stirling series (n > 20)
+     *
+     * @param value - input value
+     * @return decimal logarithm of the factorial
+     */
+    private static BigDecimal log10(final long value) {
+        final BigDecimal n = BigDecimal.valueOf(value);
+        final BigDecimal ln = ln(value);
+        BigDecimal result = n.multiply(ln.subtract(BigDecimal.ONE), CONTEXT).add(HALF.multiply(LN_2PI.add(ln), CONTEXT), CONTEXT);
+        final BigDecimal n2 = n.multiply(n);
+        BigDecimal power = n;
+        for (int k = 0; k < SERIES_NUMERATORS.length; k++) {
+            result = result.add(BigDecimal.valueOf(SERIES_NUMERATORS[k]).divide(power.multiply(BigDecimal.valueOf(SERIES_DENOMINATORS[k]), CONTEXT), CONTEXT), CONTEXT);
+            power = power.multiply(n2, CONTEXT);
+        }
+        return result.divide(LN_10, CONTEXT);
+    }
+
+    /**
+     * Returns high-precision natural logarithm of the positive input value (n = m * 2^k, 1 <= m < 2)
+     *
+     * @param value - input value
+     * @return natural logarithm
+     */
+    private static BigDecimal ln(final long value) {
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final BigDecimal mantissa = BigDecimal.valueOf(value).divide(BigDecimal.valueOf(2).pow(exponent), CONTEXT);
+        return LN_2.multiply(BigDecimal.valueOf(exponent)).add(lnReduced(mantissa), CONTEXT);
+    }
+
+    /**
+     * Returns high-precision natural logarithm of the input value (close to 1) as 2 * atanh((x - 1) / (x + 1))
+     *
+     * @param value - input value
+     * @return natural logarithm
+     */
+    private static BigDecimal lnReduced(final BigDecimal value) {
+        final BigDecimal z = value.subtract(BigDecimal.ONE).divide(value.add(BigDecimal.ONE), CONTEXT);
+        final BigDecimal z2 = z.multiply(z, CONTEXT);
+        BigDecimal power = z, result = z;
+        for (long k = 3; power.abs().compareTo(EPSILON) > 0; k += 2) {
+            power = power.multiply(z2, CONTEXT);
+            result = result.add(power.divide(BigDecimal.valueOf(k), CONTEXT), CONTEXT);
+        }
+        return result.multiply(TWO, CONTEXT);
+    }
+}
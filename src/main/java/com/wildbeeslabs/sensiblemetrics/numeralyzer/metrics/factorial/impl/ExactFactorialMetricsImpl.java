@@ -0,0 +1,88 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.impl;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.DelegatedDispatcher;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.TaskContext;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.impl.OddProductRecursiveTask;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.IExactFactorialMetrics;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Exact factorial metrics implementation (based on odd-part decomposition)
+ *
+ * n! = 2^(n - popcount(n)) * P(0)^1 * P(1)^2 * ... * P(k)^(k + 1), where P(i) is the product of the odd numbers
+ * in the range (n / 2^(i + 1), n / 2^i]. The odd products are computed in parallel on {@link DelegatedDispatcher},
+ * the powers are accumulated by repeated multiplication and the power of two is applied as a single shift.
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2017-08-07
+ */
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class ExactFactorialMetricsImpl extends SimpleFactorialMetricsImpl implements IExactFactorialMetrics {
+
+    /**
+     * Default constructor
+     */
+    public ExactFactorialMetricsImpl() {
+        getLogger().debug("Initializing exact factorial metrics...");
+    }
+
+    @Override
+    public BigInteger factorial(final long value) {
+        if (value < 0 || value > MAX_VALUE) {
+            throw new IllegalArgumentException(String.format("Invalid argument: value {%s} should be in the range [0, %s]", value, MAX_VALUE));
+        }
+        if (value < 2) {
+            return BigInteger.ONE;
+        }
+        final int levels = Long.SIZE - Long.numberOfLeadingZeros(value);
+        final TaskContext context = new TaskContext();
+        final List<ForkJoinTask<BigInteger>> products = new ArrayList<>(levels);
+        for (int level = 0; level < levels; level++) {
+            final OddProductRecursiveTask task = new OddProductRecursiveTask((value >> (level + 1)) + 1, value >> level);
+            task.setContext(context);
+            products.add(DelegatedDispatcher.submit(task));
+        }
+        BigInteger product = BigInteger.ONE, result = BigInteger.ONE;
+        try {
+            for (int level = levels - 1; level >= 0; level--) {
+                product = product.multiply(products.get(level).join());
+                result = result.multiply(product);
+            }
+        } catch (RuntimeException ex) {
+            context.cancel();
+            throw ex;
+        }
+        return result.shiftLeft((int) (value - Long.bitCount(value)));
+    }
+}
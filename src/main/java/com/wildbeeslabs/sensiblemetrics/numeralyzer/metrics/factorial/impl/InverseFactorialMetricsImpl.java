@@ -0,0 +1,146 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.impl;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.IInverseFactorialMetrics;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.Objects;
+
+/**
+ * Inverse factorial metrics implementation
+ *
+ * <p>
+ * The smallest value with at least k trailing zeros is always a multiple of 5 in the range (4k, 5k],
+ * since Z(n) &lt; n / 4 and Z(5k) &gt;= k, so the search is performed over multiples of 5 only.
+ * </p>
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2017-08-07
+ */
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class InverseFactorialMetricsImpl extends SimpleFactorialMetricsImpl implements IInverseFactorialMetrics {
+
+    /**
+     * Default empty values
+     */
+    private static final long[] EMPTY_VALUES = new long[0];
+
+    /**
+     * Default constructor
+     */
+    public InverseFactorialMetricsImpl() {
+        getLogger().debug("Initializing inverse factorial metrics...");
+    }
+
+    @Override
+    public long lowerBoundOf(final long zeros) {
+        if (validateZeros(zeros) == 0) {
+            return 0L;
+        }
+        return DIVISOR_5 * this.searchLowerBound(zeros, initialBound(zeros));
+    }
+
+    @Override
+    public void lowerBoundOf(final long[] zeros, final long[] output) {
+        Objects.requireNonNull(zeros);
+        Objects.requireNonNull(output);
+        if (output.length < zeros.length) {
+            throw new IndexOutOfBoundsException(String.format("Invalid output length {%s}, expected at least {%s}", output.length, zeros.length));
+        }
+        long previousZeros = 0, previousBound = 0;
+        for (int i = 0; i < zeros.length; i++) {
+            final long value = zeros[i];
+            if (validateZeros(value) == 0) {
+                output[i] = 0L;
+                continue;
+            }
+            long lower = initialBound(value);
+            if (value >= previousZeros && previousBound > lower) {
+                lower = previousBound - 1;
+            }
+            previousBound = this.searchLowerBound(value, lower);
+            previousZeros = value;
+            output[i] = DIVISOR_5 * previousBound;
+        }
+    }
+
+    @Override
+    public long[] valuesOf(final long zeros) {
+        final long value = this.lowerBoundOf(zeros);
+        if (this.numOfTrailingZeros(value) != zeros) {
+            return EMPTY_VALUES;
+        }
+        return new long[]{value, value + 1, value + 2, value + 3, value + 4};
+    }
+
+    /**
+     * Returns the smallest multiplier m in (lower, zeros] with Z(5m) &gt;= zeros, galloping from the lower bound and then bisecting
+     *
+     * @param zeros - input number of trailing zeros
+     * @param lower - exclusive lower bound of the multiplier, Z(5 * lower) &lt; zeros
+     * @return the smallest multiplier
+     */
+    private long searchLowerBound(final long zeros, final long lower) {
+        long low = lower, high = zeros, step = 1;
+        while (step < high - low) {
+            final long probe = low + step;
+            if (this.numOfTrailingZeros(DIVISOR_5 * probe) >= zeros) {
+                high = probe;
+                break;
+            }
+            low = probe;
+            step <<= 1;
+        }
+        while (high - low > 1) {
+            final long middle = low + (high - low) / 2;
+            if (this.numOfTrailingZeros(DIVISOR_5 * middle) >= zeros) {
+                high = middle;
+            } else {
+                low = middle;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * Returns exclusive lower bound of the multiplier seeded by the 4k estimate: floor(4k / 5) = k - ceil(k / 5)
+     *
+     * @param zeros - input number of trailing zeros
+     * @return exclusive lower bound of the multiplier
+     */
+    private static long initialBound(final long zeros) {
+        return zeros - (zeros + DIVISOR_5 - 1) / DIVISOR_5;
+    }
+
+    private static long validateZeros(final long zeros) {
+        if (zeros < 0 || zeros > MAX_TRAILING_ZEROS) {
+            throw new IllegalArgumentException(String.format("Invalid argument: number of trailing zeros {%s} should be in range [0, %s]", zeros, MAX_TRAILING_ZEROS));
+        }
+        return zeros;
+    }
+}
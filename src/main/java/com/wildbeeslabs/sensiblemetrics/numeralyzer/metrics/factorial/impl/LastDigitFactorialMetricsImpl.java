@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.impl;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.ILastDigitFactorialMetrics;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Last non-zero digit factorial metrics implementation (based on base-5 decomposition)
+ *
+ * For n = 5a + b the last non-zero digit satisfies D(n) = 2^a * D(a) * D(b) (mod 10), so the
+ * digit is accumulated over the base-5 digits of the input value without computing the factorial.
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2017-08-07
+ */
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class LastDigitFactorialMetricsImpl extends SimpleFactorialMetricsImpl implements ILastDigitFactorialMetrics {
+
+    /**
+     * Default decimal radix
+     */
+    private static final int RADIX = 10;
+    /**
+     * Last non-zero digits of 0! .. 4!
+     */
+    private static final long[] DIGITS = {1, 1, 2, 6, 4};
+    /**
+     * Last digits of 2^a for a mod 4 (a > 0)
+     */
+    private static final long[] POWERS_OF_2 = {6, 2, 4, 8};
+
+    /**
+     * Default constructor
+     */
+    public LastDigitFactorialMetricsImpl() {
+        getLogger().debug("Initializing last digit factorial metrics...");
+    }
+
+    @Override
+    public long lastNonZeroDigit(final long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(String.format("Invalid argument: value {%s} should be non-negative", value));
+        }
+        return lastDigit(value);
+    }
+
+    @Override
+    public void lastNonZeroDigit(final long[] values, final long[] output) {
+        checkBounds(values, 0, values.length, output, 0);
+        for (int i = 0; i < values.length; i++) {
+            output[i] = lastDigit(mask(values[i]));
+        }
+    }
+
+    private static long lastDigit(final long value) {
+        long digit = 1, temp = value;
+        while (temp >= DIVISOR_5) {
+            final long quotient = temp / DIVISOR_5;
+            digit = digit * POWERS_OF_2[(int) (quotient & 3)] * DIGITS[(int) (temp - quotient * DIVISOR_5)] % RADIX;
+            temp = quotient;
+        }
+        return digit * DIGITS[(int) temp] % RADIX;
+    }
+}
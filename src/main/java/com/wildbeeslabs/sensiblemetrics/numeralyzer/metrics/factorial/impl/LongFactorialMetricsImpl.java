@@ -0,0 +1,113 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.impl;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.ILongFactorialMetrics;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.nio.BufferOverflowException;
+import java.nio.LongBuffer;
+import java.util.Objects;
+
+/**
+ * Abstract long factorial metrics implementation (primitive and batch operations)
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2017-08-07
+ */
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public abstract class LongFactorialMetricsImpl extends BaseFactorialMetricsImpl<Long, Long> implements ILongFactorialMetrics {
+
+    /**
+     * Default constructor
+     */
+    public LongFactorialMetricsImpl() {
+        getLogger().debug("Initializing long factorial metrics...");
+    }
+
+    @Override
+    public long numOfTrailingZeros(final Long value) {
+        return this.numOfTrailingZeros(value.longValue());
+    }
+
+    @Override
+    public void numOfTrailingZeros(final long[] values, final long[] output) {
+        this.numOfTrailingZeros(values, 0, values.length, output, 0);
+    }
+
+    @Override
+    public void numOfTrailingZeros(final long[] values, final int offset, final int length, final long[] output, final int outputOffset) {
+        checkBounds(values, offset, length, output, outputOffset);
+        for (int i = 0; i < length; i++) {
+            output[outputOffset + i] = this.numOfTrailingZeros(mask(values[offset + i]));
+        }
+    }
+
+    @Override
+    public void numOfTrailingZeros(final long[] values, final LongBuffer output) {
+        Objects.requireNonNull(values);
+        if (output.remaining() < values.length) {
+            throw new BufferOverflowException();
+        }
+        final int position = output.position();
+        if (output.hasArray()) {
+            this.numOfTrailingZeros(values, 0, values.length, output.array(), output.arrayOffset() + position);
+        } else {
+            for (int i = 0; i < values.length; i++) {
+                output.put(position + i, this.numOfTrailingZeros(mask(values[i])));
+            }
+        }
+        output.position(position + values.length);
+    }
+
+    /**
+     * Returns input value if it is non-negative, zero - otherwise (branch-free sign mask)
+     *
+     * @param value - input value
+     * @return masked value
+     */
+    protected static long mask(final long value) {
+        return value & ~(value >> (Long.SIZE - 1));
+    }
+
+    /**
+     * Validates input / output array ranges once per batch
+     *
+     * @param values       - input values
+     * @param offset       - input values offset
+     * @param length       - number of input values
+     * @param output       - output array
+     * @param outputOffset - output array offset
+     */
+    protected static void checkBounds(final long[] values, final int offset, final int length, final long[] output, final int outputOffset) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(output);
+        if (offset < 0 || length < 0 || outputOffset < 0 || offset > values.length - length || outputOffset > output.length - length) {
+            throw new IndexOutOfBoundsException(String.format("Invalid batch range: offset {%s}, length {%s}, output offset {%s}", offset, length, outputOffset));
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.impl;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.ICache;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.impl.DelegatedCache;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.IRadixFactorialMetrics;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Radix factorial metrics implementation (based on Legendre's formula)
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2017-08-07
+ */
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class RadixFactorialMetricsImpl extends LongFactorialMetricsImpl implements IRadixFactorialMetrics {
+
+    /**
+     * Default radix
+     */
+    private final long radix;
+    /**
+     * Default radix factorization cache
+     */
+    private final ICache<Long, RadixFactorization> factorizations;
+
+    /**
+     * Default constructor
+     */
+    public RadixFactorialMetricsImpl() {
+        this(DEFAULT_RADIX);
+    }
+
+    /**
+     * Default constructor with input radix
+     *
+     * @param radix - input radix (should be greater than 1)
+     */
+    public RadixFactorialMetricsImpl(final long radix) {
+        getLogger().debug("Initializing radix factorial metrics...");
+        this.radix = validateRadix(radix);
+        this.factorizations = new DelegatedCache<>();
+    }
+
+    @Override
+    public long getRadix() {
+        return this.radix;
+    }
+
+    @Override
+    public long numOfTrailingZeros(final long value) {
+        return this.numOfTrailingZeros(value, this.radix);
+    }
+
+    /**
+     * Returns number of trailing zeros in the given radix as the minimum of floor(v_p(n!) / e) over all prime powers p^e of the radix
+     *
+     * @param value - input value to be factorized
+     * @param radix - input radix (should be greater than 1)
+     * @return number of trailing zeros
+     */
+    @Override
+    public long numOfTrailingZeros(final long value, final long radix) {
+        return this.numOfTrailingZeros(value, this.getFactorization(validateRadix(radix)));
+    }
+
+    private long numOfTrailingZeros(final long value, final RadixFactorization factorization) {
+        long count = Long.MAX_VALUE;
+        for (int i = 0; i < factorization.primes.length && count > 0; i++) {
+            count = Math.min(count, this.numOfPrimeFactors(value, factorization.primes[i]) / factorization.exponents[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Stores numbers of trailing zeros of the input values in the given radix into the output array (negative values are masked to zero)
+     *
+     * @param values - input values to be factorized
+     * @param radix  - input radix (should be greater than 1)
+     * @param output - output array of trailing zeros
+     */
+    @Override
+    public void numOfTrailingZeros(final long[] values, final long radix, final long[] output) {
+        checkBounds(values, 0, values.length, output, 0);
+        final RadixFactorization factorization = this.getFactorization(validateRadix(radix));
+        for (int i = 0; i < values.length; i++) {
+            output[i] = this.numOfTrailingZeros(mask(values[i]), factorization);
+        }
+    }
+
+    /**
+     * Returns exponent of the input prime in the factorial of the input value (Legendre's formula)
+     *
+     * @param value - input value to be factorized
+     * @param prime - input prime
+     * @return exponent of the prime
+     */
+    protected long numOfPrimeFactors(final long value, final long prime) {
+        long count = 0, temp = value;
+        while (temp >= prime) {
+            temp /= prime;
+            count += temp;
+        }
+        return count;
+    }
+
+    /**
+     * Returns cached prime factorization of the input radix
+     *
+     * @param radix - input radix
+     * @return prime factorization of the radix
+     */
+    protected RadixFactorization getFactorization(final long radix) {
+        RadixFactorization factorization = this.factorizations.read(radix);
+        if (Objects.isNull(factorization)) {
+            factorization = RadixFactorization.of(radix);
+            this.factorizations.write(radix, factorization);
+        }
+        return factorization;
+    }
+
+    private static long validateRadix(final long radix) {
+        if (radix < 2) {
+            throw new IllegalArgumentException(String.format("Invalid argument: radix {%s} should be greater than 1", radix));
+        }
+        return radix;
+    }
+
+    /**
+     * Radix prime factorization (p1^e1 * p2^e2 * ... * pk^ek)
+     */
+    @EqualsAndHashCode
+    @ToString
+    protected static final class RadixFactorization implements Serializable {
+
+        /**
+         * Prime factors in ascending order
+         */
+        private final long[] primes;
+        /**
+         * Exponents of the prime factors
+         */
+        private final long[] exponents;
+
+        private RadixFactorization(final long[] primes, final long[] exponents) {
+            this.primes = primes;
+            this.exponents = exponents;
+        }
+
+        /**
+         * Returns prime factorization of the input radix by trial division
+         *
+         * @param radix - input radix
+         * @return prime factorization
+         */
+        private static RadixFactorization of(final long radix) {
+            final long[] primes = new long[Long.SIZE];
+            final long[] exponents = new long[Long.SIZE];
+            int size = 0;
+            long temp = radix;
+            for (long prime = 2; prime <= temp / prime; prime += (prime == 2) ? 1 : 2) {
+                if (temp % prime == 0) {
+                    primes[size] = prime;
+                    while (temp % prime == 0) {
+                        temp /= prime;
+                        exponents[size]++;
+                    }
+                    size++;
+                }
+            }
+            if (temp > 1) {
+                primes[size] = temp;
+                exponents[size++] = 1;
+            }
+            return new RadixFactorization(Arrays.copyOf(primes, size), Arrays.copyOf(exponents, size));
+        }
+    }
+}
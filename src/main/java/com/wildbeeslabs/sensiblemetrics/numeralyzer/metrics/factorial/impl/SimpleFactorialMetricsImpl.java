@@ -36,7 +36,7 @@ import lombok.ToString;
  */
 @EqualsAndHashCode(callSuper = true)
 @ToString(callSuper = true)
-public class SimpleFactorialMetricsImpl extends BaseFactorialMetricsImpl<Long, Long> implements ISimpleFactorialMetrics {
+public class SimpleFactorialMetricsImpl extends LongFactorialMetricsImpl implements ISimpleFactorialMetrics {
 
     /**
      * Default constructor
@@ -46,7 +46,7 @@ public class SimpleFactorialMetricsImpl extends BaseFactorialMetricsImpl<Long, L
     }
 
     @Override
-    public long numOfTrailingZeros(final Long value) {
+    public long numOfTrailingZeros(final long value) {
         long count = 0, temp = value;
         while (temp > 0) {
             temp /= DIVISOR_5;
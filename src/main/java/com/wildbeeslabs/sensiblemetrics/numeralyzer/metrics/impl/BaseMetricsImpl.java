@@ -25,8 +25,8 @@
 package com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.impl;
 
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.IBaseMetrics;
-import org.apache.log4j.LogManager;
-import org.apache.log4j.Logger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Abstract base metrics class with default implementation
@@ -40,7 +40,7 @@ public abstract class BaseMetricsImpl implements IBaseMetrics {
     /**
      * Default logger instance
      */
-    protected final Logger LOGGER = LogManager.getLogger(getClass());
+    protected final Logger LOGGER = LoggerFactory.getLogger(getClass());
 
     /**
      * Default constructor
@@ -24,6 +24,7 @@
 package com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.lexical;
 
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.IGenericLexicalToken;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.ITokenBatch;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.functions.Parser;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.IGenericMetrics;
 
@@ -63,4 +64,20 @@ public interface IGenericLexicalTokenMetrics<S extends CharSequence, T extends I
      * @return formatted representation of input value
      */
     E valueOf(final T value, final Parser<T, E> parser);
+
+    /**
+     * Returns character set of all tokens of the input batch
+     *
+     * @param batch - input token batch
+     * @return character set of the batch
+     */
+    Set<Integer> characterSet(final ITokenBatch batch);
+
+    /**
+     * Stores lengths of all tokens of the input batch in chars into the output array
+     *
+     * @param batch  - input token batch
+     * @param output - output array of lengths
+     */
+    void length(final ITokenBatch batch, final int[] output);
 }
@@ -25,10 +25,10 @@ package com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.lexical;
 
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.IGenericLexicalToken;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.IGenericLexicalTokenTerm;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.impl.TokenLengthStatistics;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.functions.Numerator;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.IGenericMetrics;
 
-import java.util.LongSummaryStatistics;
 
 /**
  * Lexical token term metrics interface declaration
@@ -49,7 +49,7 @@ public interface IGenericLexicalTokenTermMetrics<S extends CharSequence, M exten
      * @param value - input lexical term
      * @return lexical term statistics
      */
-    LongSummaryStatistics getStatistics(final T value);
+    TokenLengthStatistics getStatistics(final T value);
 
     /**
      * Returns average tokens length of the input lexical term
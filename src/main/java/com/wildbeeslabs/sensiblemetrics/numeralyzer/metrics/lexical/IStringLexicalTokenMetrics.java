@@ -23,6 +23,7 @@
  */
 package com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.lexical;
 
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.ITokenBatch;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.impl.StringLexicalToken;
 
 /**
@@ -33,4 +34,14 @@ import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.impl.StringLexicalT
  * @since 2018-11-30
  */
 public interface IStringLexicalTokenMetrics extends IGenericLexicalTokenMetrics<String, StringLexicalToken, Long> {
+
+    /**
+     * Stores values of the decimal digits of all tokens of the input batch into the output array
+     * (the same as {@code Long.parseLong(token.replaceAll("[\\D]", ""))} for every token)
+     *
+     * @param batch  - input token batch
+     * @param output - output array of values
+     * @throws NumberFormatException if a token has no decimal digits or its value exceeds the long range
+     */
+    void valueOf(final ITokenBatch batch, final long[] output);
 }
@@ -24,12 +24,14 @@
 package com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.lexical.impl;
 
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.IGenericLexicalToken;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.ITokenBatch;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.functions.Parser;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.impl.GenericMetricsImpl;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.lexical.IGenericLexicalTokenMetrics;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -91,6 +93,40 @@ public abstract class GenericLexicalTokenMetricsImpl<S extends CharSequence, T e
         return new HashSet<>(this.characterList(value));
     }
 
+    /**
+     * Returns character set of all tokens of the input batch (collected over the contiguous char array)
+     *
+     * @param batch - input token batch
+     * @return character set of the batch
+     */
+    @Override
+    public Set<Integer> characterSet(final ITokenBatch batch) {
+        final BitSet characters = new BitSet();
+        final char[] chars = batch.getChars();
+        final int[] offsets = batch.getOffsets();
+        final int[] lengths = batch.getLengths();
+        for (int i = 0; i < batch.size(); i++) {
+            for (int j = offsets[i], end = offsets[i] + lengths[i]; j < end; j++) {
+                characters.set(chars[j]);
+            }
+        }
+        return characters.stream().boxed().collect(Collectors.toCollection(HashSet::new));
+    }
+
+    /**
+     * Stores lengths of all tokens of the input batch in chars into the output array
+     *
+     * @param batch  - input token batch
+     * @param output - output array of lengths
+     */
+    @Override
+    public void length(final ITokenBatch batch, final int[] output) {
+        if (output.length < batch.size()) {
+            throw new IllegalArgumentException(String.format("Invalid argument: output array should hold at least {%s} elements", batch.size()));
+        }
+        System.arraycopy(batch.getLengths(), 0, output, 0, batch.size());
+    }
+
     /**
      * Returns character list of the current input token
      *
@@ -25,6 +25,7 @@ package com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.lexical.impl;
 
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.IGenericLexicalToken;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.IGenericLexicalTokenTerm;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.impl.TokenLengthStatistics;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.functions.Numerator;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.impl.GenericMetricsImpl;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.lexical.IGenericLexicalTokenTermMetrics;
@@ -32,8 +33,7 @@ import com.wildbeeslabs.sensiblemetrics.numeralyzer.utils.ConverterUtils;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
-import java.util.LongSummaryStatistics;
-import java.util.stream.Collectors;
+import java.util.NoSuchElementException;
 
 /**
  * Abstract lexical token term metrics implementation
@@ -58,25 +58,29 @@ public abstract class GenericLexicalTokenTermMetricsImpl<S extends CharSequence,
     }
 
     /**
-     * Returns summary statistics of the input lexical term
+     * Returns summary statistics of the input lexical term (served from the running statistics of the term)
      *
      * @param value - input term
      * @return summary statistics
      */
     @Override
-    public LongSummaryStatistics getStatistics(final T value) {
-        return value.getTokens().stream().collect(Collectors.summarizingLong((M token) -> token.getData().length()));
+    public TokenLengthStatistics getStatistics(final T value) {
+        return value.getLengthStatistics();
     }
 
     /**
-     * Returns average tokens length of the input lexical term
+     * Returns average tokens length of the input lexical term (served from the running statistics of the term)
      *
      * @param value - input term
      * @return average tokens length
+     * @throws NoSuchElementException if the term is empty
      */
     @Override
     public double getAverageTokenLength(final T value) {
-        return value.getTokens().stream().mapToInt((token) -> token.getData().length()).average().getAsDouble();
+        if (value.getTokenCount() == 0) {
+            throw new NoSuchElementException("No value present");
+        }
+        return value.getAverageTokenLength();
     }
 
     /**
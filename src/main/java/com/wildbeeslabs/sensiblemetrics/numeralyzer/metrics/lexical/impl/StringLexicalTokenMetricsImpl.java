@@ -23,6 +23,7 @@
  */
 package com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.lexical.impl;
 
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.ITokenBatch;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.impl.StringLexicalToken;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.lexical.IStringLexicalTokenMetrics;
 import lombok.EqualsAndHashCode;
@@ -45,4 +46,38 @@ public class StringLexicalTokenMetricsImpl extends GenericLexicalTokenMetricsImp
     public StringLexicalTokenMetricsImpl() {
         getLogger().debug("Initializing string lexical token metrics...");
     }
+
+    /**
+     * Stores values of the decimal digits of all tokens of the input batch into the output array
+     *
+     * @param batch  - input token batch
+     * @param output - output array of values
+     */
+    @Override
+    public void valueOf(final ITokenBatch batch, final long[] output) {
+        if (output.length < batch.size()) {
+            throw new IllegalArgumentException(String.format("Invalid argument: output array should hold at least {%s} elements", batch.size()));
+        }
+        final char[] chars = batch.getChars();
+        final int[] offsets = batch.getOffsets();
+        final int[] lengths = batch.getLengths();
+        for (int i = 0; i < batch.size(); i++) {
+            long value = 0;
+            int digits = 0;
+            for (int j = offsets[i], end = offsets[i] + lengths[i]; j < end; j++) {
+                final int digit = chars[j] - '0';
+                if (digit >= 0 && digit <= 9) {
+                    if (value > (Long.MAX_VALUE - digit) / 10) {
+                        throw new NumberFormatException(String.format("Invalid argument: token {%s} exceeds the long range", batch.token(i)));
+                    }
+                    value = value * 10 + digit;
+                    digits++;
+                }
+            }
+            if (digits == 0) {
+                throw new NumberFormatException(String.format("Invalid argument: token {%s} has no decimal digits", batch.token(i)));
+            }
+            output[i] = value;
+        }
+    }
 }
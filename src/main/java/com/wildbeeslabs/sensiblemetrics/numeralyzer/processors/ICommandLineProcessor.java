@@ -23,6 +23,8 @@
  */
 package com.wildbeeslabs.sensiblemetrics.numeralyzer.processors;
 
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.DelegatedDispatcher;
+
 import java.io.File;
 
 /**
@@ -41,6 +43,48 @@ public interface ICommandLineProcessor extends IBaseProcessor {
         AUTO, SHORT, FULL;
     }
 
+    /**
+     * Processing engine enumeration
+     */
+    enum EngineMode {
+        /**
+         * Reads all input, computes results in parallel batches and writes all output
+         */
+        BATCH,
+        /**
+         * Streams input through concurrent read, tokenize, parse, compute and write stages
+         */
+        PIPELINE;
+    }
+
+    /**
+     * Input parser enumeration
+     */
+    enum ParserMode {
+        /**
+         * Splits input lines into lexical tokens and parses their digits
+         */
+        LEXICAL,
+        /**
+         * Scans numeric values straight from input bytes without intermediate strings
+         */
+        NUMERIC;
+    }
+
+    /**
+     * Factorial metrics enumeration
+     */
+    enum MetricsMode {
+        /**
+         * Counts trailing zeros by powers of five
+         */
+        SIMPLE,
+        /**
+         * Counts trailing zeros by cached powers of two and five (the caches are exposed as management beans)
+         */
+        COMPLEX;
+    }
+
     /**
      * Returns output interactive mode {@link VerboseMode}
      *
@@ -49,7 +93,28 @@ public interface ICommandLineProcessor extends IBaseProcessor {
     VerboseMode getMode();
 
     /**
-     * Returns input source file {@link File} instance
+     * Returns processing engine mode {@link EngineMode}
+     *
+     * @return processing engine mode
+     */
+    EngineMode getEngine();
+
+    /**
+     * Returns input parser mode {@link ParserMode}
+     *
+     * @return input parser mode
+     */
+    ParserMode getParserMode();
+
+    /**
+     * Returns factorial metrics mode {@link MetricsMode}
+     *
+     * @return factorial metrics mode
+     */
+    MetricsMode getMetricsMode();
+
+    /**
+     * Returns input source file or directory {@link File} instance (every regular file of a directory is processed in path order)
      *
      * @return input source {@link File} instance
      */
@@ -62,6 +127,34 @@ public interface ICommandLineProcessor extends IBaseProcessor {
      */
     File getOutputSource();
 
+    /**
+     * Returns persistent cache file {@link File} instance (optional)
+     *
+     * @return cache source {@link File} instance
+     */
+    File getCacheSource();
+
+    /**
+     * Returns parallelism of the dispatcher pool (optional)
+     *
+     * @return dispatcher parallelism
+     */
+    Integer getParallelism();
+
+    /**
+     * Returns async mode of the dispatcher pool (optional)
+     *
+     * @return dispatcher async mode
+     */
+    Boolean getAsyncMode();
+
+    /**
+     * Returns I/O mode of the dispatcher (optional)
+     *
+     * @return dispatcher I/O mode
+     */
+    DelegatedDispatcher.IoMode getIoMode();
+
     /**
      * Returns ignore case mode, true - ignore case is enabled, false - otherwise
      *
@@ -27,8 +27,6 @@ import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.IComplexFa
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
-import java.util.Objects;
-
 /**
  * Complex factorial metrics processor implementation
  *
@@ -38,7 +36,7 @@ import java.util.Objects;
  */
 @EqualsAndHashCode(callSuper = true)
 @ToString(callSuper = true)
-public class ComplexFactorialMetricsProcessorImpl extends GenericFactorialMetricsProcessorImpl<Long, Long, IComplexFactorialMetrics> {
+public class ComplexFactorialMetricsProcessorImpl extends LongFactorialMetricsProcessorImpl<IComplexFactorialMetrics> {
 
     /**
      * Default constructor
@@ -46,23 +44,4 @@ public class ComplexFactorialMetricsProcessorImpl extends GenericFactorialMetric
     public ComplexFactorialMetricsProcessorImpl() {
         getLogger().debug("Initializing complex factorial metrics processor...");
     }
-
-    /**
-     * Returns trailing zeros in a factorized input value
-     *
-     * @param value - value to be factorized
-     * @return number of trailing zeros
-     */
-    @Override
-    public Long countTrailingZeros(Long value) {
-        if (Objects.isNull(value) || value < 0) {
-            return this.getDefault();
-        }
-        return this.getMetrics().numOfTrailingZeros(value);
-    }
-
-    @Override
-    protected Long getDefault() {
-        return 0L;
-    }
 }
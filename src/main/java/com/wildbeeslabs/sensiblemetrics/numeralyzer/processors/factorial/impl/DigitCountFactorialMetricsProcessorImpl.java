@@ -0,0 +1,87 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.factorial.impl;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.IDigitCountFactorialMetrics;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.Objects;
+
+/**
+ * Digit count factorial metrics processor implementation
+ *
+ * @author alexander.rogalskiy
+ * @version 1.0
+ * @since 2018-11-30
+ */
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class DigitCountFactorialMetricsProcessorImpl extends LongFactorialMetricsProcessorImpl<IDigitCountFactorialMetrics> {
+
+    /**
+     * Default number of digits
+     */
+    private static final long DEFAULT_DIGITS = 1L;
+
+    /**
+     * Default constructor
+     */
+    public DigitCountFactorialMetricsProcessorImpl() {
+        getLogger().debug("Initializing digit count factorial metrics processor...");
+    }
+
+    /**
+     * Returns number of digits of a factorized input value
+     *
+     * @param value - value to be factorized
+     * @return number of digits
+     */
+    public Long countDigits(final Long value) {
+        if (Objects.isNull(value) || value < 0) {
+            return DEFAULT_DIGITS;
+        }
+        return this.getMetrics().numOfDigits(value.longValue());
+    }
+
+    /**
+     * Returns number of digits of a factorized primitive input value (negative values are processed as zero)
+     *
+     * @param value - value to be factorized
+     * @return number of digits
+     */
+    public long countDigits(final long value) {
+        return this.getMetrics().numOfDigits(value & ~(value >> (Long.SIZE - 1)));
+    }
+
+    /**
+     * Stores numbers of digits of the input values into the output array
+     *
+     * @param values - input values to be processed
+     * @param output - output array of numbers of digits
+     */
+    public void countDigits(final long[] values, final long[] output) {
+        this.getMetrics().numOfDigits(values, output);
+    }
+}
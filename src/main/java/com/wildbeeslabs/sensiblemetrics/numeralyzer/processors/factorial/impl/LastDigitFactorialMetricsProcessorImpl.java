@@ -0,0 +1,87 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.factorial.impl;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.ILastDigitFactorialMetrics;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.Objects;
+
+/**
+ * Last non-zero digit factorial metrics processor implementation
+ *
+ * @author alexander.rogalskiy
+ * @version 1.0
+ * @since 2018-11-30
+ */
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class LastDigitFactorialMetricsProcessorImpl extends LongFactorialMetricsProcessorImpl<ILastDigitFactorialMetrics> {
+
+    /**
+     * Default last non-zero digit
+     */
+    private static final long DEFAULT_DIGIT = 1L;
+
+    /**
+     * Default constructor
+     */
+    public LastDigitFactorialMetricsProcessorImpl() {
+        getLogger().debug("Initializing last digit factorial metrics processor...");
+    }
+
+    /**
+     * Returns last non-zero digit of a factorized input value
+     *
+     * @param value - value to be factorized
+     * @return last non-zero digit
+     */
+    public Long lastNonZeroDigit(final Long value) {
+        if (Objects.isNull(value) || value < 0) {
+            return DEFAULT_DIGIT;
+        }
+        return this.getMetrics().lastNonZeroDigit(value.longValue());
+    }
+
+    /**
+     * Returns last non-zero digit of a factorized primitive input value (negative values are processed as zero)
+     *
+     * @param value - value to be factorized
+     * @return last non-zero digit
+     */
+    public long lastNonZeroDigit(final long value) {
+        return this.getMetrics().lastNonZeroDigit(value & ~(value >> (Long.SIZE - 1)));
+    }
+
+    /**
+     * Stores last non-zero digits of the input values into the output array
+     *
+     * @param values - input values to be processed
+     * @param output - output array of last non-zero digits
+     */
+    public void lastNonZeroDigit(final long[] values, final long[] output) {
+        this.getMetrics().lastNonZeroDigit(values, output);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.factorial.impl;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.ILongFactorialMetrics;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.factorial.ILongFactorialMetricsProcessor;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.nio.LongBuffer;
+import java.util.Objects;
+
+/**
+ * Abstract long factorial metrics processor implementation
+ *
+ * @param <R> - {@link ILongFactorialMetrics}
+ * @author alexander.rogalskiy
+ * @version 1.0
+ * @since 2018-11-30
+ */
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public abstract class LongFactorialMetricsProcessorImpl<R extends ILongFactorialMetrics> extends GenericFactorialMetricsProcessorImpl<Long, Long, R> implements ILongFactorialMetricsProcessor<R> {
+
+    /**
+     * Default constructor
+     */
+    public LongFactorialMetricsProcessorImpl() {
+        getLogger().debug("Initializing long factorial metrics processor...");
+    }
+
+    /**
+     * Returns trailing zeros in a factorized input value
+     *
+     * @param value - value to be factorized
+     * @return number of trailing zeros
+     */
+    @Override
+    public Long countTrailingZeros(final Long value) {
+        if (Objects.isNull(value) || value < 0) {
+            return this.getDefault();
+        }
+        return this.getMetrics().numOfTrailingZeros(value.longValue());
+    }
+
+    /**
+     * Returns trailing zeros in a factorized primitive input value (negative values are processed as zero)
+     *
+     * @param value - value to be factorized
+     * @return number of trailing zeros
+     */
+    @Override
+    public long countTrailingZeros(final long value) {
+        return this.getMetrics().numOfTrailingZeros(value & ~(value >> (Long.SIZE - 1)));
+    }
+
+    @Override
+    public void countTrailingZeros(final long[] values, final int offset, final int length, final long[] output, final int outputOffset) {
+        this.getMetrics().numOfTrailingZeros(values, offset, length, output, outputOffset);
+    }
+
+    @Override
+    public void countTrailingZeros(final long[] values, final long[] output) {
+        this.getMetrics().numOfTrailingZeros(values, output);
+    }
+
+    @Override
+    public void countTrailingZeros(final long[] values, final LongBuffer output) {
+        this.getMetrics().numOfTrailingZeros(values, output);
+    }
+
+    @Override
+    protected Long getDefault() {
+        return 0L;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.factorial.impl;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.IRadixFactorialMetrics;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.Objects;
+
+/**
+ * Radix factorial metrics processor implementation
+ *
+ * @author alexander.rogalskiy
+ * @version 1.0
+ * @since 2018-11-30
+ */
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class RadixFactorialMetricsProcessorImpl extends LongFactorialMetricsProcessorImpl<IRadixFactorialMetrics> {
+
+    /**
+     * Default constructor
+     */
+    public RadixFactorialMetricsProcessorImpl() {
+        getLogger().debug("Initializing radix factorial metrics processor...");
+    }
+
+    /**
+     * Returns trailing zeros in a factorized input value in the given radix
+     *
+     * @param value - value to be factorized
+     * @param radix - input radix
+     * @return number of trailing zeros
+     */
+    public Long countTrailingZeros(final Long value, final long radix) {
+        if (Objects.isNull(value) || value < 0) {
+            return this.getDefault();
+        }
+        return this.getMetrics().numOfTrailingZeros(value, radix);
+    }
+
+    /**
+     * Stores numbers of trailing zeros of the input values in the given radix into the output array
+     *
+     * @param values - input values to be processed
+     * @param radix  - input radix
+     * @param output - output array of trailing zeros
+     */
+    public void countTrailingZeros(final long[] values, final long radix, final long[] output) {
+        this.getMetrics().numOfTrailingZeros(values, radix, output);
+    }
+}
@@ -27,8 +27,8 @@ import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.IBaseProcessor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
-import org.apache.log4j.LogManager;
-import org.apache.log4j.Logger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Abstract base processor class with default implementation
@@ -45,7 +45,7 @@ public abstract class BaseProcessorImpl implements IBaseProcessor {
     /**
      * Default logger instance
      */
-    protected final Logger LOGGER = LogManager.getLogger(getClass());
+    protected final Logger LOGGER = LoggerFactory.getLogger(getClass());
 
     /**
      * Default constructor
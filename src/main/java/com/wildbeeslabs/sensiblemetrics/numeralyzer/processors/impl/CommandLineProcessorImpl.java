@@ -23,6 +23,7 @@
  */
 package com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.impl;
 
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.DelegatedDispatcher;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.ICommandLineProcessor;
 import lombok.*;
 import org.apache.commons.lang3.StringUtils;
@@ -58,6 +59,18 @@ public class CommandLineProcessorImpl extends BaseProcessorImpl implements IComm
      * Default verbose mode list
      */
     public static final List<VerboseMode> DEFAULT_VERBOSE_MODE_LIST = Arrays.asList(VerboseMode.values());
+    /**
+     * Default processing engine mode
+     */
+    public static final EngineMode DEFAULT_ENGINE_MODE = EngineMode.PIPELINE;
+    /**
+     * Default input parser mode
+     */
+    public static final ParserMode DEFAULT_PARSER_MODE = ParserMode.LEXICAL;
+    /**
+     * Default factorial metrics mode
+     */
+    public static final MetricsMode DEFAULT_METRICS_MODE = MetricsMode.SIMPLE;
     /**
      * Error status flag
      */
@@ -66,10 +79,24 @@ public class CommandLineProcessorImpl extends BaseProcessorImpl implements IComm
 
     @Option(name = "-v", aliases = {"--mode"}, usage = "sets verbose mode {auto | short | full}", metaVar = "VERBOSE MODE", handler = StringOptionHandler.class)
     private VerboseMode mode;
+    @Option(name = "-e", aliases = {"--engine"}, usage = "sets processing engine {batch | pipeline}", metaVar = "ENGINE MODE")
+    private EngineMode engine;
+    @Option(name = "-t", aliases = {"--parser"}, usage = "sets input parser {lexical | numeric}", metaVar = "PARSER MODE")
+    private ParserMode parserMode;
+    @Option(name = "-m", aliases = {"--metrics"}, usage = "sets factorial metrics {simple | complex}", metaVar = "METRICS MODE")
+    private MetricsMode metricsMode;
     @Option(name = "-in", aliases = {"--input-source"}, required = true, usage = "sets input source", metaVar = "INPUT SOURCE")
     private File inputSource;
     @Option(name = "-out", aliases = {"--output-source"}, required = true, usage = "sets output source", metaVar = "OUTPUT SOURCE")
     private File outputSource;
+    @Option(name = "-c", aliases = {"--cache-source"}, usage = "sets persistent cache source", metaVar = "CACHE SOURCE")
+    private File cacheSource;
+    @Option(name = "-p", aliases = {"--parallelism"}, usage = "sets parallelism of the dispatcher pool", metaVar = "PARALLELISM")
+    private Integer parallelism;
+    @Option(name = "-a", aliases = {"--async-mode"}, usage = "enables/disables async mode of the dispatcher pool", metaVar = "ASYNC MODE", handler = ExplicitBooleanOptionHandler.class)
+    private Boolean asyncMode;
+    @Option(name = "-io", aliases = {"--io-mode"}, usage = "sets I/O mode of the dispatcher {platform | virtual}", metaVar = "IO MODE")
+    private DelegatedDispatcher.IoMode ioMode;
     @Option(name = "-i", aliases = {"--ignore-case"}, usage = "enables/disables ignore case mode", metaVar = "IGNORE CASE MODE", handler = ExplicitBooleanOptionHandler.class)
     private boolean ignoreCase;
 
@@ -93,12 +120,16 @@ public class CommandLineProcessorImpl extends BaseProcessorImpl implements IComm
         try {
             this.parser.parseArgument(args);
             this.initializeMode();
+            this.initializeEngine();
+            this.initializeParserMode();
+            this.initializeMetricsMode();
             this.initializeInputSource();
             this.initializeOutputSource();
+            this.initializeParallelism();
             this.error = false;
         } catch (CmdLineException ex) {
-            LOGGER.error(String.format("ERROR: cannot parse input / output arguments, message=(%s)", ex.getMessage()));
-            LOGGER.error(String.format("Example: java -jar %s %s", "numeralyzer.jar", this.parser.printExample(OptionHandlerFilter.ALL)));
+            LOGGER.error("ERROR: cannot parse input / output arguments, message=({})", ex.getMessage());
+            LOGGER.error("Example: java -jar {} {}", "numeralyzer.jar", this.parser.printExample(OptionHandlerFilter.ALL));
         }
     }
 
@@ -113,9 +144,27 @@ public class CommandLineProcessorImpl extends BaseProcessorImpl implements IComm
         }
     }
 
+    private void initializeEngine() {
+        if (Objects.isNull(this.getEngine())) {
+            this.engine = DEFAULT_ENGINE_MODE;
+        }
+    }
+
+    private void initializeParserMode() {
+        if (Objects.isNull(this.getParserMode())) {
+            this.parserMode = DEFAULT_PARSER_MODE;
+        }
+    }
+
+    private void initializeMetricsMode() {
+        if (Objects.isNull(this.getMetricsMode())) {
+            this.metricsMode = DEFAULT_METRICS_MODE;
+        }
+    }
+
     private void initializeInputSource() {
-        if (Objects.isNull(this.getInputSource()) || !this.getInputSource().isFile()) {
-            throw new IllegalArgumentException(String.format("Invalid argument: --input-source {%s} is not a valid input file", this.getInputSource()));
+        if (Objects.isNull(this.getInputSource()) || !(this.getInputSource().isFile() || this.getInputSource().isDirectory())) {
+            throw new IllegalArgumentException(String.format("Invalid argument: --input-source {%s} is not a valid input file or directory", this.getInputSource()));
         }
     }
 
@@ -124,4 +173,10 @@ public class CommandLineProcessorImpl extends BaseProcessorImpl implements IComm
             throw new IllegalArgumentException(String.format("Invalid argument: --output-source {%s} is not a valid output file", this.getOutputSource()));
         }
     }
+
+    private void initializeParallelism() throws CmdLineException {
+        if (Objects.nonNull(this.getParallelism()) && this.getParallelism() <= 0) {
+            throw new CmdLineException(this.parser, String.format("Invalid argument: --parallelism {%s} should be greater than 0", this.getParallelism()), null);
+        }
+    }
 }
@@ -24,6 +24,7 @@
 package com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.lexical;
 
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.IGenericLexicalToken;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.ITokenBatch;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.IBaseProcessor;
 
 import java.util.List;
@@ -52,4 +53,27 @@ public interface IGenericLexicalTokenProcessor<T extends CharSequence, E extends
      * @return collection of lexical tokens collected from input stream
      */
     List<E> getLexicalTokens(final Stream<T> stream);
+
+    /**
+     * Returns lazily evaluated stream of lexical tokens from input stream (closing the returned stream closes the input stream)
+     *
+     * @param stream - input stream
+     * @return stream of lexical tokens
+     */
+    Stream<E> streamLexicalTokens(final Stream<T> stream);
+
+    /**
+     * Returns columnar batch of lexical tokens collected from input stream (no token objects are created)
+     *
+     * @param stream - input stream
+     * @return batch of lexical tokens
+     */
+    ITokenBatch getTokenBatch(final Stream<T> stream);
+
+    /**
+     * Returns identity mode of the created lexical tokens
+     *
+     * @return lexical token identity mode
+     */
+    IGenericLexicalToken.IdentityMode getIdentityMode();
 }
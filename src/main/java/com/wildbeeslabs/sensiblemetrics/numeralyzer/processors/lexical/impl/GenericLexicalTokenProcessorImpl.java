@@ -24,16 +24,17 @@
 package com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.lexical.impl;
 
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.IGenericLexicalToken;
-import com.wildbeeslabs.sensiblemetrics.numeralyzer.functions.Filter;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.ITokenBatch;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.impl.TokenBatch;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.impl.BaseProcessorImpl;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.lexical.IGenericLexicalTokenProcessor;
-import com.wildbeeslabs.sensiblemetrics.numeralyzer.utils.ConverterUtils;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.utils.DelimiterTokenizer;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
-import org.apache.commons.lang3.StringUtils;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -49,11 +50,36 @@ import java.util.stream.Stream;
 @ToString(callSuper = true)
 public abstract class GenericLexicalTokenProcessorImpl<T extends CharSequence, E extends IGenericLexicalToken<T>> extends BaseProcessorImpl implements IGenericLexicalTokenProcessor<T, E> {
 
+    /**
+     * Lexical token identity mode
+     */
+    private final IGenericLexicalToken.IdentityMode identityMode;
+
     /**
      * Default constructor
      */
     public GenericLexicalTokenProcessorImpl() {
+        this(IGenericLexicalToken.DEFAULT_IDENTITY_MODE);
+    }
+
+    /**
+     * Default constructor with lexical token identity mode
+     *
+     * @param identityMode - lexical token identity mode
+     */
+    public GenericLexicalTokenProcessorImpl(final IGenericLexicalToken.IdentityMode identityMode) {
         getLogger().debug("Initializing generic lexical token processor...");
+        this.identityMode = Objects.requireNonNull(identityMode);
+    }
+
+    /**
+     * Returns identity mode of the created lexical tokens
+     *
+     * @return lexical token identity mode
+     */
+    @Override
+    public IGenericLexicalToken.IdentityMode getIdentityMode() {
+        return this.identityMode;
     }
 
     /**
@@ -64,29 +90,67 @@ public abstract class GenericLexicalTokenProcessorImpl<T extends CharSequence, E
      */
     @Override
     public List<E> getLexicalTokens(final Stream<T> stream) {
-        return this.getLexicalTokenList(stream, this.getDefaultFilter(), DEFAULT_TOKEN_DELIMITER);
+        return this.getLexicalTokenList(stream, this.getDefaultTokenizer());
     }
 
     /**
-     * Returns lexical token list by input stream
+     * Returns lazily evaluated stream of lexical tokens by input stream
      *
-     * @param stream         - input stream
-     * @param tokenFilter    - token filter function
-     * @param tokenDelimiter - token delimiter
+     * @param stream - input stream
+     * @return stream of lexical tokens
+     */
+    @Override
+    public Stream<E> streamLexicalTokens(final Stream<T> stream) {
+        return this.getLexicalTokenStream(stream, this.getDefaultTokenizer());
+    }
+
+    /**
+     * Returns columnar batch of lexical tokens by input stream split by the default tokenizer (tokens are trimmed and lower-cased)
+     *
+     * @param stream - input stream
+     * @return batch of lexical tokens
+     */
+    @Override
+    public ITokenBatch getTokenBatch(final Stream<T> stream) {
+        final TokenBatch batch = new TokenBatch();
+        final DelimiterTokenizer tokenizer = this.getDefaultTokenizer();
+        stream.forEachOrdered(line -> tokenizer.tokenize(String.valueOf(line), batch));
+        return batch;
+    }
+
+    /**
+     * Returns lexical token list by input stream split by the delimiter tokenizer (tokens are trimmed and lower-cased)
+     *
+     * @param stream    - input stream
+     * @param tokenizer - delimiter tokenizer
      * @return collection of lexical tokens
      */
-    protected List<E> getLexicalTokenList(final Stream<T> stream, final Filter<CharSequence, CharSequence> tokenFilter, final String tokenDelimiter) {
-        final Stream<T> filteredStream = ConverterUtils.getFilteredStream(stream, tokenFilter, tokenDelimiter);
-        return ConverterUtils.convertToList(filteredStream, (token) -> createLexicalToken(token));
+    protected List<E> getLexicalTokenList(final Stream<T> stream, final DelimiterTokenizer tokenizer) {
+        return this.getLexicalTokenStream(stream, tokenizer).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns lazily evaluated stream of lexical tokens by input stream split by the delimiter tokenizer (tokens are trimmed and lower-cased)
+     *
+     * @param stream    - input stream
+     * @param tokenizer - delimiter tokenizer
+     * @return stream of lexical tokens
+     */
+    protected Stream<E> getLexicalTokenStream(final Stream<T> stream, final DelimiterTokenizer tokenizer) {
+        return stream.flatMap(line -> {
+            final Stream.Builder<String> tokens = Stream.builder();
+            tokenizer.forEachToken(String.valueOf(line), tokens);
+            return tokens.build();
+        }).map(token -> createLexicalToken((T) token));
     }
 
     /**
-     * Returns default lexical token filter
+     * Returns default delimiter tokenizer (the same delimiters as {@link #DEFAULT_TOKEN_DELIMITER})
      *
-     * @return default lexical token filter
+     * @return default delimiter tokenizer
      */
-    protected Filter<CharSequence, CharSequence> getDefaultFilter() {
-        return (token -> Optional.ofNullable(token).map(data -> data.toString().toLowerCase().trim()).orElse(StringUtils.EMPTY));
+    protected DelimiterTokenizer getDefaultTokenizer() {
+        return DelimiterTokenizer.DEFAULT;
     }
 
     /**
@@ -0,0 +1,95 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.lexical.impl;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.IGenericLexicalToken;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.impl.LexicalTokenCursor;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.impl.LexicalTokenView;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Lexical token view processor implementation (tokens are zero-copy views over the input lines, see {@link LexicalTokenCursor})
+ *
+ * @author alexander.rogalskiy
+ * @version 1.0
+ * @since 2018-11-30
+ */
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class LexicalTokenViewProcessorImpl extends GenericLexicalTokenProcessorImpl<CharSequence, LexicalTokenView> {
+
+    /**
+     * Default constructor
+     */
+    public LexicalTokenViewProcessorImpl() {
+        super(IGenericLexicalToken.IdentityMode.NONE);
+        getLogger().debug("Initializing lexical token view processor...");
+    }
+
+    /**
+     * Returns collection of lexical token views by input stream
+     *
+     * @param stream - input stream
+     * @return collection of lexical token views
+     */
+    @Override
+    public List<LexicalTokenView> getLexicalTokens(final Stream<CharSequence> stream) {
+        return this.streamLexicalTokens(stream).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns lazily evaluated stream of lexical token views by input stream
+     *
+     * @param stream - input stream
+     * @return stream of lexical token views
+     */
+    @Override
+    public Stream<LexicalTokenView> streamLexicalTokens(final Stream<CharSequence> stream) {
+        return stream.flatMap(line -> {
+            final LexicalTokenCursor cursor = new LexicalTokenCursor(line);
+            final List<LexicalTokenView> tokens = new ArrayList<>();
+            while (cursor.next()) {
+                tokens.add(cursor.token().copy());
+            }
+            return tokens.stream();
+        });
+    }
+
+    /**
+     * Returns new lexical token view over the whole input value
+     *
+     * @param value - input value
+     * @return new lexical token view
+     */
+    @Override
+    protected LexicalTokenView createLexicalToken(final CharSequence value) {
+        return new LexicalTokenView(value, 0, value.length());
+    }
+}
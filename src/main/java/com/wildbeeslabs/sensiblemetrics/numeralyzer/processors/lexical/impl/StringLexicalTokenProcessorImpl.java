@@ -23,6 +23,7 @@
  */
 package com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.lexical.impl;
 
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.IGenericLexicalToken;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.impl.StringLexicalToken;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -42,6 +43,16 @@ public class StringLexicalTokenProcessorImpl extends GenericLexicalTokenProcesso
      * Default constructor
      */
     public StringLexicalTokenProcessorImpl() {
+        this(IGenericLexicalToken.DEFAULT_IDENTITY_MODE);
+    }
+
+    /**
+     * Default constructor with lexical token identity mode
+     *
+     * @param identityMode - lexical token identity mode
+     */
+    public StringLexicalTokenProcessorImpl(final IGenericLexicalToken.IdentityMode identityMode) {
+        super(identityMode);
         getLogger().debug("Initializing string lexical token processor...");
     }
 
@@ -53,6 +64,6 @@ public class StringLexicalTokenProcessorImpl extends GenericLexicalTokenProcesso
      */
     @Override
     protected StringLexicalToken createLexicalToken(String value) {
-        return new StringLexicalToken(value);
+        return new StringLexicalToken(value, this.getIdentityMode());
     }
 }
@@ -23,8 +23,8 @@
  */
 package com.wildbeeslabs.sensiblemetrics.numeralyzer.utils;
 
-import org.apache.log4j.LogManager;
-import org.apache.log4j.Logger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
 import java.util.Objects;
@@ -42,7 +42,7 @@ public final class ComparatorUtils<T> {
     /**
      * Default logger instance
      */
-    private static final Logger LOGGER = LogManager.getLogger(ComparatorUtils.class);
+    private static final Logger LOGGER = LoggerFactory.getLogger(ComparatorUtils.class);
 
     /**
      * Default private constructor
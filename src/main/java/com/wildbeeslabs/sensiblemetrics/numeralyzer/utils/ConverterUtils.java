@@ -25,8 +25,8 @@ package com.wildbeeslabs.sensiblemetrics.numeralyzer.utils;
 
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.functions.Filter;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.log4j.LogManager;
-import org.apache.log4j.Logger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.function.*;
@@ -49,7 +49,7 @@ public final class ConverterUtils {
     /**
      * Default logger instance
      */
-    private static final Logger LOGGER = LogManager.getLogger(ConverterUtils.class);
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConverterUtils.class);
 
     public static final Predicate<Boolean> randomBool = predicate -> new Random().nextBoolean();
     public static final Predicate<String> notEmpty = (String it) -> org.apache.commons.lang3.StringUtils.isNotEmpty(it);
@@ -239,7 +239,8 @@ public final class ConverterUtils {
     }
 
     public static <E> Stream<E> getFilteredStream(final Stream<E> stream, final Filter<CharSequence, CharSequence> tokenFilter, final String tokenDelim) {
-        return stream.flatMap(line -> Arrays.stream(String.valueOf(line).trim().split(tokenDelim)))
+        final Pattern pattern = Pattern.compile(tokenDelim);
+        return stream.flatMap(line -> Arrays.stream(pattern.split(String.valueOf(line).trim())))
                 .map(item -> tokenFilter.apply(item))
                 .filter(StringUtils::isNotBlank)
                 .map(item -> (E) item);
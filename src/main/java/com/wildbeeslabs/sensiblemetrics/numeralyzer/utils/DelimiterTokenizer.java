@@ -0,0 +1,202 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.utils;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.impl.TokenBatch;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Tokenizer driven by a precompiled delimiter character set (a bitset for ASCII and a sorted code point array for the
+ * rest of Unicode). Every delimiter separates tokens, tokens are trimmed, lower-cased and blank tokens are skipped in a
+ * single pass, which matches splitting by the delimiter character class and applying the default lexical token filter.
+ * Tokens are lower-cased per char by {@link Character#toLowerCase(char)} (locale independent and length preserving),
+ * the same rule as lower-cased {@link com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.impl.LexicalTokenView}s.
+ *
+ * @author alexander.rogalskiy
+ * @version 1.0
+ * @since 2018-11-30
+ */
+public final class DelimiterTokenizer {
+
+    /**
+     * Default delimiter characters (the same as {@code [,./?;:\-"\s#]})
+     */
+    public static final String DEFAULT_DELIMITERS = ",./?;:-\"# \t\n\u000B\f\r";
+    /**
+     * Default tokenizer instance
+     */
+    public static final DelimiterTokenizer DEFAULT = new DelimiterTokenizer(DEFAULT_DELIMITERS);
+
+    /**
+     * ASCII delimiter bitset
+     */
+    private final long[] ascii = new long[2];
+    /**
+     * Sorted non-ASCII delimiter code points
+     */
+    private final int[] others;
+
+    /**
+     * Default constructor with delimiter characters
+     *
+     * @param delimiters - delimiter characters (code points)
+     */
+    public DelimiterTokenizer(final CharSequence delimiters) {
+        Objects.requireNonNull(delimiters);
+        delimiters.codePoints().filter(c -> c < 0x80).forEach(c -> this.ascii[c >>> 6] |= 1L << c);
+        this.others = delimiters.codePoints().filter(c -> c >= 0x80).sorted().distinct().toArray();
+    }
+
+    /**
+     * Returns true if the input code point is a delimiter
+     *
+     * @param c - input code point
+     * @return true - if the code point is a delimiter, false - otherwise
+     */
+    public boolean isDelimiter(final int c) {
+        if (c < 0x80) {
+            return c >= 0 && (this.ascii[c >>> 6] & (1L << c)) != 0;
+        }
+        return this.others.length > 0 && Arrays.binarySearch(this.others, c) >= 0;
+    }
+
+    /**
+     * Finds the next trimmed non-blank token of the input sequence starting at the input position
+     *
+     * @param source   - input char sequence
+     * @param position - start position
+     * @param range    - output array of the token range [from, to)
+     * @return position after the token and its delimiter, or -1 if there are no more tokens
+     */
+    public int nextToken(final CharSequence source, final int position, final int[] range) {
+        final int end = source.length();
+        int current = position;
+        while (current < end) {
+            int from = current;
+            int to;
+            while (true) {
+                if (current >= end) {
+                    to = current;
+                    break;
+                }
+                final char c = source.charAt(current);
+                final int codePoint = (c < 0x80) ? c : Character.codePointAt(source, current);
+                if (this.isDelimiter(codePoint)) {
+                    to = current;
+                    current += Character.charCount(codePoint);
+                    break;
+                }
+                current += Character.charCount(codePoint);
+            }
+            while (from < to && source.charAt(from) <= ' ') {
+                from++;
+            }
+            while (to > from && source.charAt(to - 1) <= ' ') {
+                to--;
+            }
+            if (!isBlank(source, from, to)) {
+                range[0] = from;
+                range[1] = to;
+                return current;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Passes all trimmed, lower-cased and non-blank tokens of the input sequence to the sink
+     *
+     * @param source - input char sequence
+     * @param sink   - token consumer
+     */
+    public void forEachToken(final CharSequence source, final Consumer<? super String> sink) {
+        Objects.requireNonNull(sink);
+        final int[] range = new int[2];
+        int position = 0;
+        while ((position = this.nextToken(source, position, range)) >= 0) {
+            sink.accept(toLowerCase(source, range[0], range[1]));
+        }
+    }
+
+    /**
+     * Appends all trimmed, lower-cased and non-blank tokens of the input sequence to the token batch
+     *
+     * @param source - input char sequence
+     * @param batch  - output token batch
+     */
+    public void tokenize(final CharSequence source, final TokenBatch batch) {
+        Objects.requireNonNull(batch);
+        final int[] range = new int[2];
+        int position = 0;
+        while ((position = this.nextToken(source, position, range)) >= 0) {
+            if (isLowerCaseAscii(source, range[0], range[1])) {
+                batch.add(source, range[0], range[1]);
+            } else {
+                final String value = toLowerCase(source, range[0], range[1]);
+                batch.add(value, 0, value.length());
+            }
+        }
+    }
+
+    /**
+     * Returns lower-cased string of the input range (ASCII lower-case ranges are copied as is, others are converted per char by {@link Character#toLowerCase(char)})
+     *
+     * @param source - input char sequence
+     * @param from   - first char offset
+     * @param to     - last char offset (exclusive)
+     * @return lower-cased string
+     */
+    private static String toLowerCase(final CharSequence source, final int from, final int to) {
+        if (isLowerCaseAscii(source, from, to)) {
+            return source.subSequence(from, to).toString();
+        }
+        final char[] chars = new char[to - from];
+        for (int i = from; i < to; i++) {
+            chars[i - from] = Character.toLowerCase(source.charAt(i));
+        }
+        return new String(chars);
+    }
+
+    private static boolean isLowerCaseAscii(final CharSequence source, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            final char c = source.charAt(i);
+            if (c >= 0x80 || (c >= 'A' && c <= 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isBlank(final CharSequence source, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            if (!Character.isWhitespace(source.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
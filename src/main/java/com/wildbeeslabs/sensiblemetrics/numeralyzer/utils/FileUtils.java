@@ -23,19 +23,30 @@
  */
 package com.wildbeeslabs.sensiblemetrics.numeralyzer.utils;
 
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.DelegatedDispatcher;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.IGenericLexicalToken;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.lexical.IGenericLexicalTokenProcessor;
-import org.apache.log4j.LogManager;
-import org.apache.log4j.Logger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.LongConsumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -51,11 +62,15 @@ public final class FileUtils {
     /**
      * Default logger instance
      */
-    private static final Logger LOGGER = LogManager.getLogger(FileUtils.class);
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileUtils.class);
     /**
      * Default file character encoding
      */
     public static final Charset DEFAULT_FILE_CHARACTER_ENCODING = StandardCharsets.UTF_8;
+    /**
+     * Default read buffer size in characters
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
 
     /**
      * Default private constructor
@@ -70,26 +85,182 @@ public final class FileUtils {
         try {
             resultList = (List<U>) Files.readAllLines(inputFile.toPath(), DEFAULT_FILE_CHARACTER_ENCODING);
         } catch (IOException ex) {
-            LOGGER.error(String.format("ERROR: cannot read from input file=%s, message=%s", String.valueOf(inputFile), ex.getMessage()));
+            LOGGER.error("ERROR: cannot read from input file={}, message={}", inputFile, ex.getMessage());
         }
         return resultList;
     }
 
+    /**
+     * Returns list of lines matching the predicate, the memory-mapped file is scanned in parallel chunks on the dispatcher pool (the order of lines is preserved)
+     *
+     * @param inputFile - input file
+     * @param predicate - line filter
+     * @return list of filtered lines
+     */
     public static List<String> readFileByFilter(final File inputFile, final Predicate<? super String> predicate) {
         Objects.requireNonNull(inputFile);
         List<String> resultList = Collections.EMPTY_LIST;
-        try (final BufferedReader br = Files.newBufferedReader(inputFile.toPath(), DEFAULT_FILE_CHARACTER_ENCODING)) {
-            resultList = br.lines().filter(predicate).collect(Collectors.toList());
-        } catch (IOException ex) {
-            LOGGER.error(String.format("ERROR: cannot read from input file=%s, message=%s", String.valueOf(inputFile), ex.getMessage()));
+        try (final Stream<String> lines = mappedLines(inputFile, true)) {
+            resultList = DelegatedDispatcher.getForkJoinPool().submit(() -> lines.filter(predicate).collect(Collectors.toList())).join();
+        } catch (IOException | UncheckedIOException ex) {
+            LOGGER.error("ERROR: cannot read from input file={}, message={}", inputFile, ex.getMessage());
         }
         return resultList;
     }
 
+    /**
+     * Returns stream of lines of the memory-mapped file, parallel streams are split into chunks aligned on line boundaries (the file is closed on stream close)
+     *
+     * @param inputFile - input file
+     * @param parallel  - parallel stream flag
+     * @return stream of lines
+     * @throws IOException if the file cannot be opened
+     */
+    public static Stream<String> mappedLines(final File inputFile, final boolean parallel) throws IOException {
+        Objects.requireNonNull(inputFile);
+        final FileChannel channel = FileChannel.open(inputFile.toPath(), StandardOpenOption.READ);
+        try {
+            return StreamSupport.stream(new MappedLineSpliterator(channel, 0, channel.size()), parallel).onClose(() -> {
+                try {
+                    channel.close();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
     public static <U extends CharSequence, T extends IGenericLexicalToken<U>> List<T> readFile(final File inputFile, final IGenericLexicalTokenProcessor<U, T> processor) {
         Objects.requireNonNull(inputFile);
-        final List<U> inputList = readAllLines(inputFile);
-        return processor.getLexicalTokens(inputList.stream());
+        try (final Stream<T> tokens = streamFile(inputFile, processor)) {
+            return tokens.collect(Collectors.toList());
+        } catch (IOException ex) {
+            LOGGER.error("ERROR: cannot read from input file={}, message={}", inputFile, ex.getMessage());
+        } catch (UncheckedIOException ex) {
+            LOGGER.error("ERROR: cannot read from input file={}, message={}", inputFile, ex.getCause().getMessage());
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns lexical tokens of the input files in input order, every file is read by a separate task of the input executor
+     *
+     * @param inputFiles - input files
+     * @param processor  - lexical token processor
+     * @param executor   - I/O executor
+     * @param <U>        type of token data
+     * @param <T>        type of lexical token
+     * @return list of lexical tokens
+     */
+    public static <U extends CharSequence, T extends IGenericLexicalToken<U>> List<T> readFiles(final List<File> inputFiles, final IGenericLexicalTokenProcessor<U, T> processor, final ExecutorService executor) {
+        Objects.requireNonNull(inputFiles);
+        final List<Future<List<T>>> futures = new ArrayList<>(inputFiles.size());
+        for (final File inputFile : inputFiles) {
+            futures.add(executor.submit(() -> readFile(inputFile, processor)));
+        }
+        final List<T> resultList = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                resultList.addAll(futures.get(i).get());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                futures.forEach(future -> future.cancel(true));
+                LOGGER.error("ERROR: interrupted while reading from input file={}", inputFiles.get(i));
+                break;
+            } catch (ExecutionException ex) {
+                LOGGER.error("ERROR: cannot read from input file={}, message={}", inputFiles.get(i), ex.getCause().getMessage());
+            }
+        }
+        return resultList;
+    }
+
+    /**
+     * Returns lazily read stream of lines of the input file (the file is closed when the returned stream is closed)
+     *
+     * @param inputFile - input file
+     * @return stream of lines
+     * @throws IOException if the file cannot be opened
+     */
+    public static Stream<String> lines(final File inputFile) throws IOException {
+        return lines(inputFile, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Returns lazily read stream of lines of the input file (the file is closed when the returned stream is closed)
+     *
+     * @param inputFile  - input file
+     * @param bufferSize - read buffer size in characters
+     * @return stream of lines
+     * @throws IOException if the file cannot be opened
+     */
+    public static Stream<String> lines(final File inputFile, final int bufferSize) throws IOException {
+        Objects.requireNonNull(inputFile);
+        final BufferedReader reader = newBufferedReader(inputFile, bufferSize);
+        try {
+            return reader.lines().onClose(() -> {
+                try {
+                    reader.close();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (RuntimeException | Error ex) {
+            reader.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns lazily evaluated stream of lexical tokens of the input file (the file is closed when the returned stream is closed)
+     *
+     * @param inputFile - input file
+     * @param processor - lexical token processor
+     * @param <U>       type of token data
+     * @param <T>       type of lexical token
+     * @return stream of lexical tokens
+     * @throws IOException if the file cannot be opened
+     */
+    public static <U extends CharSequence, T extends IGenericLexicalToken<U>> Stream<T> streamFile(final File inputFile, final IGenericLexicalTokenProcessor<U, T> processor) throws IOException {
+        return processor.streamLexicalTokens((Stream<U>) lines(inputFile));
+    }
+
+    /**
+     * Scans numeric tokens of the input file straight from its bytes and passes their values to the sink (see {@link NumericTokenScanner})
+     *
+     * @param inputFile - input file
+     * @param sink      - value consumer
+     * @throws IOException if the file cannot be read
+     */
+    public static void scanNumbers(final File inputFile, final LongConsumer sink) throws IOException {
+        Objects.requireNonNull(inputFile);
+        final NumericTokenScanner scanner = new NumericTokenScanner();
+        final ByteBuffer buffer = ByteBuffer.allocate(DEFAULT_BUFFER_SIZE);
+        try (final FileChannel channel = FileChannel.open(inputFile.toPath(), StandardOpenOption.READ)) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                scanner.scan(buffer, sink);
+                buffer.clear();
+            }
+        }
+        scanner.finish(sink);
+    }
+
+    /**
+     * Returns buffered reader of the input file decoding {@link #DEFAULT_FILE_CHARACTER_ENCODING} (malformed input is reported)
+     *
+     * @param inputFile  - input file
+     * @param bufferSize - read buffer size in characters
+     * @return buffered reader
+     * @throws IOException if the file cannot be opened
+     */
+    public static BufferedReader newBufferedReader(final File inputFile, final int bufferSize) throws IOException {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException(String.format("Invalid argument: buffer size {%s} should be greater than 0", bufferSize));
+        }
+        return new BufferedReader(new InputStreamReader(Files.newInputStream(inputFile.toPath()), DEFAULT_FILE_CHARACTER_ENCODING.newDecoder()), bufferSize);
     }
 
     public static <U> void writeFile(final File outputFile, final Collection<? extends U> output) {
@@ -98,9 +269,9 @@ public final class FileUtils {
         try (final PrintWriter writer = new PrintWriter(Files.newBufferedWriter(outputFile.toPath(), DEFAULT_FILE_CHARACTER_ENCODING))) {
             output.stream().forEach(writer::println);
         } catch (FileNotFoundException | UnsupportedEncodingException ex) {
-            LOGGER.error(String.format("ERROR: cannot create output file=%s, message=%s", String.valueOf(outputFile), ex.getMessage()));
+            LOGGER.error("ERROR: cannot create output file={}, message={}", outputFile, ex.getMessage());
         } catch (IOException ex) {
-            LOGGER.error(String.format("ERROR: cannot process read / writer operations on file=%s, message=%s", String.valueOf(outputFile), ex.getMessage()));
+            LOGGER.error("ERROR: cannot process read / writer operations on file={}, message={}", outputFile, ex.getMessage());
         }
     }
 
@@ -109,7 +280,7 @@ public final class FileUtils {
         try (final ZipOutputStream zipOutputStream = new ZipOutputStream(new FileOutputStream(outputZip))) {
             for (final File file : listFiles) {
                 final String filePath = file.getCanonicalPath();
-                LOGGER.debug(String.format("Processing zip file: %s", filePath));
+                LOGGER.debug("Processing zip file: {}", filePath);
 
                 final String zipFilePath = Paths.get(filePath).getFileName().toString();
                 final ZipEntry zipEntry = new ZipEntry(zipFilePath);
@@ -156,4 +327,167 @@ public final class FileUtils {
             listDirectories(listDirectories, directory);
         }
     }
+
+    /**
+     * Iterator over batches of lines of the input files (files are opened lazily one at a time and closed when exhausted)
+     */
+    public static final class LineBatchIterator implements Iterator<List<String>>, Closeable {
+
+        private final Iterator<File> files;
+        private final int batchSize;
+        private BufferedReader reader;
+        private List<String> next;
+
+        /**
+         * Default constructor
+         *
+         * @param inputFiles - input files
+         * @param batchSize  - maximum number of lines per batch
+         */
+        public LineBatchIterator(final List<File> inputFiles, final int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException(String.format("Invalid argument: batch size {%s} should be greater than 0", batchSize));
+            }
+            this.files = new ArrayList<>(inputFiles).iterator();
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (Objects.isNull(this.next)) {
+                this.next = this.readBatch();
+            }
+            return !this.next.isEmpty();
+        }
+
+        @Override
+        public List<String> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final List<String> batch = this.next;
+            this.next = null;
+            return batch;
+        }
+
+        private List<String> readBatch() {
+            final List<String> batch = new ArrayList<>(this.batchSize);
+            try {
+                while (batch.size() < this.batchSize) {
+                    if (Objects.isNull(this.reader)) {
+                        if (!this.files.hasNext()) {
+                            break;
+                        }
+                        this.reader = newBufferedReader(this.files.next(), DEFAULT_BUFFER_SIZE);
+                    }
+                    final String line = this.reader.readLine();
+                    if (Objects.isNull(line)) {
+                        this.close();
+                    } else {
+                        batch.add(line);
+                    }
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return batch;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (Objects.nonNull(this.reader)) {
+                final BufferedReader reader = this.reader;
+                this.reader = null;
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Iterator over batches of numeric token values of the input files scanned straight from their bytes
+     * (batches hold at least batch size values except the last one, files are opened lazily one at a time and closed when exhausted)
+     */
+    public static final class NumericBatchIterator implements Iterator<long[]>, Closeable {
+
+        private final Iterator<File> files;
+        private final int batchSize;
+        private final NumericTokenScanner scanner = new NumericTokenScanner();
+        private final ByteBuffer buffer = ByteBuffer.allocate(DEFAULT_BUFFER_SIZE);
+        private FileChannel channel;
+        private LongStream.Builder batch;
+        private int size;
+        private long[] next;
+
+        /**
+         * Default constructor
+         *
+         * @param inputFiles - input files
+         * @param batchSize  - minimum number of values per batch
+         */
+        public NumericBatchIterator(final List<File> inputFiles, final int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException(String.format("Invalid argument: batch size {%s} should be greater than 0", batchSize));
+            }
+            this.files = new ArrayList<>(inputFiles).iterator();
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (Objects.isNull(this.next)) {
+                this.next = this.readBatch();
+            }
+            return this.next.length > 0;
+        }
+
+        @Override
+        public long[] next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final long[] batch = this.next;
+            this.next = null;
+            return batch;
+        }
+
+        private long[] readBatch() {
+            this.batch = LongStream.builder();
+            this.size = 0;
+            try {
+                while (this.size < this.batchSize) {
+                    if (Objects.isNull(this.channel)) {
+                        if (!this.files.hasNext()) {
+                            break;
+                        }
+                        this.channel = FileChannel.open(this.files.next().toPath(), StandardOpenOption.READ);
+                    }
+                    if (this.channel.read(this.buffer) < 0) {
+                        this.scanner.finish(this::add);
+                        this.close();
+                    } else {
+                        this.buffer.flip();
+                        this.scanner.scan(this.buffer, this::add);
+                        this.buffer.clear();
+                    }
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return this.batch.build().toArray();
+        }
+
+        private void add(final long value) {
+            this.batch.accept(value);
+            this.size++;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (Objects.nonNull(this.channel)) {
+                final FileChannel channel = this.channel;
+                this.channel = null;
+                channel.close();
+            }
+        }
+    }
 }
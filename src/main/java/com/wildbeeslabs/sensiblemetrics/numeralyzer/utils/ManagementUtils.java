@@ -0,0 +1,154 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.utils;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.CacheStats;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.ICache;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.impl.CacheStatsMXBeanImpl;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.DispatcherStats;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.impl.DispatcherStatsMXBeanImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * Helper class to handle management (JMX) operations
+ *
+ * @author alexander.rogalskiy
+ * @version 1.0
+ * @since 2018-11-30
+ */
+public final class ManagementUtils {
+
+    /**
+     * Default logger instance
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ManagementUtils.class);
+    /**
+     * Default management domain
+     */
+    public static final String DEFAULT_DOMAIN = "com.wildbeeslabs.sensiblemetrics.numeralyzer";
+
+    /**
+     * Default private constructor
+     */
+    private ManagementUtils() {
+        // PRIVATE EMPTY CONSTRUCTOR
+    }
+
+    /**
+     * Registers statistics bean of the input cache by name (fails if a bean with the same name is registered)
+     *
+     * @param name  - cache name
+     * @param cache - cache instance
+     * @return object name of the registered bean, or null if the registration failed
+     */
+    public static ObjectName registerCache(final String name, final ICache<?, ?> cache) {
+        return registerCache(name, cache::stats);
+    }
+
+    /**
+     * Registers statistics bean of the input statistics supplier by name (fails if a bean with the same name is registered)
+     *
+     * @param name  - cache name
+     * @param stats - cache statistics supplier
+     * @return object name of the registered bean, or null if the registration failed
+     */
+    public static ObjectName registerCache(final String name, final Supplier<CacheStats> stats) {
+        try {
+            return register(cacheObjectName(name), new CacheStatsMXBeanImpl(stats));
+        } catch (InstanceAlreadyExistsException ex) {
+            LOGGER.error("ERROR: cache statistics bean is already registered by name=({})", name);
+        } catch (JMException ex) {
+            LOGGER.error("ERROR: cannot register cache statistics bean by name=({}), message=({})", name, ex.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Registers statistics bean of the input dispatcher statistics supplier by name (fails if a bean with the same name is registered)
+     *
+     * @param name  - dispatcher name
+     * @param stats - dispatcher statistics supplier
+     * @return object name of the registered bean, or null if the registration failed
+     */
+    public static ObjectName registerDispatcher(final String name, final Supplier<DispatcherStats> stats) {
+        try {
+            return register(dispatcherObjectName(name), new DispatcherStatsMXBeanImpl(stats));
+        } catch (InstanceAlreadyExistsException ex) {
+            LOGGER.error("ERROR: dispatcher statistics bean is already registered by name=({})", name);
+        } catch (JMException ex) {
+            LOGGER.error("ERROR: cannot register dispatcher statistics bean by name=({}), message=({})", name, ex.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Unregisters statistics bean of the cache by name
+     *
+     * @param name - cache name
+     */
+    public static void unregisterCache(final String name) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(cacheObjectName(name));
+        } catch (InstanceNotFoundException ex) {
+            LOGGER.debug("ManagementUtils: cache statistics bean is not registered by name: {{}}", name);
+        } catch (JMException ex) {
+            LOGGER.error("ERROR: cannot unregister cache statistics bean by name=({}), message=({})", name, ex.getMessage());
+        }
+    }
+
+    /**
+     * Returns object name of the dispatcher statistics bean
+     *
+     * @param name - dispatcher name
+     * @return object name
+     * @throws JMException if the name is malformed
+     */
+    public static ObjectName dispatcherObjectName(final String name) throws JMException {
+        return new ObjectName(String.format("%s:type=Dispatcher,name=%s", DEFAULT_DOMAIN, ObjectName.quote(name)));
+    }
+
+    private static ObjectName register(final ObjectName objectName, final Object bean) throws JMException {
+        ManagementFactory.getPlatformMBeanServer().registerMBean(bean, objectName);
+        return objectName;
+    }
+
+    /**
+     * Returns object name of the cache statistics bean
+     *
+     * @param name - cache name
+     * @return object name
+     * @throws JMException if the name is malformed
+     */
+    public static ObjectName cacheObjectName(final String name) throws JMException {
+        return new ObjectName(String.format("%s:type=Cache,name=%s", DEFAULT_DOMAIN, ObjectName.quote(name)));
+    }
+}
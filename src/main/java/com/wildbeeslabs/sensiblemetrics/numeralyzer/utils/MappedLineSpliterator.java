@@ -0,0 +1,249 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over UTF-8 lines of a file region mapped through {@link FileChannel#map} (lines are terminated by '\n',
+ * a trailing '\r' is stripped, malformed input is reported as {@link UncheckedIOException}). The region is mapped window by window and splits are
+ * aligned on line boundaries, so every line belongs to exactly one split.
+ * <p>
+ * A mapping is only released when its buffer is garbage collected (there is no supported unmap), so every split holds
+ * one window at most and drops it before mapping the next one or once its region is exhausted. Released windows still
+ * occupy address space until the collector runs, up to the region size for a sequential pass.
+ *
+ * @author alexander.rogalskiy
+ * @version 1.0
+ * @since 2018-11-30
+ */
+public class MappedLineSpliterator implements Spliterator<String> {
+
+    /**
+     * Default mapped window size in bytes
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 1 << 26;
+    /**
+     * Default minimum region size in bytes worth splitting
+     */
+    public static final long MIN_SPLIT_SIZE = 1 << 20;
+    /**
+     * Default maximum mapped window size in bytes
+     */
+    private static final int MAX_WINDOW_SIZE = Integer.MAX_VALUE - 8;
+    /**
+     * Default probe size in bytes used to align splits on line boundaries
+     */
+    private static final int PROBE_SIZE = 1 << 12;
+
+    private final FileChannel channel;
+    private final int windowSize;
+    private final long minSplitSize;
+    private long position;
+    private long end;
+    private MappedByteBuffer buffer;
+    private ByteBuffer view;
+    private long bufferStart;
+    private long bufferEnd;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+        .onMalformedInput(CodingErrorAction.REPORT)
+        .onUnmappableCharacter(CodingErrorAction.REPORT);
+
+    /**
+     * Default constructor
+     *
+     * @param channel - file channel (owned by the caller)
+     * @param start   - first byte offset (inclusive, should be at a line start)
+     * @param end     - last byte offset (exclusive)
+     */
+    public MappedLineSpliterator(final FileChannel channel, final long start, final long end) {
+        this(channel, start, end, DEFAULT_WINDOW_SIZE, MIN_SPLIT_SIZE);
+    }
+
+    /**
+     * Default constructor with window and split sizes
+     *
+     * @param channel      - file channel (owned by the caller)
+     * @param start        - first byte offset (inclusive, should be at a line start)
+     * @param end          - last byte offset (exclusive)
+     * @param windowSize   - mapped window size in bytes
+     * @param minSplitSize - minimum region size in bytes worth splitting
+     */
+    public MappedLineSpliterator(final FileChannel channel, final long start, final long end, final int windowSize, final long minSplitSize) {
+        if (start < 0 || start > end) {
+            throw new IllegalArgumentException(String.format("Invalid argument: region [%s, %s) is not valid", start, end));
+        }
+        if (windowSize <= 0 || minSplitSize <= 0) {
+            throw new IllegalArgumentException(String.format("Invalid argument: window size {%s} and split size {%s} should be greater than 0", windowSize, minSplitSize));
+        }
+        this.channel = Objects.requireNonNull(channel);
+        this.position = start;
+        this.end = end;
+        this.windowSize = windowSize;
+        this.minSplitSize = minSplitSize;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super String> action) {
+        if (this.position >= this.end) {
+            this.release();
+            return false;
+        }
+        try {
+            int window = this.windowSize;
+            while (true) {
+                if (Objects.isNull(this.buffer) || this.position < this.bufferStart || this.position >= this.bufferEnd) {
+                    this.map(this.position, window);
+                }
+                final int from = (int) (this.position - this.bufferStart);
+                final int limit = (int) (this.bufferEnd - this.bufferStart);
+                int index = from;
+                while (index < limit && this.buffer.get(index) != '\n') {
+                    index++;
+                }
+                if (index < limit || this.bufferEnd >= this.end) {
+                    action.accept(this.decode(from, index));
+                    this.position = this.bufferStart + Math.min(index + 1, limit);
+                    return true;
+                }
+                window = (int) Math.min(MAX_WINDOW_SIZE, Math.max((long) window, 2L * (limit - from)));
+                this.map(this.position, window);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public Spliterator<String> trySplit() {
+        final long size = this.end - this.position;
+        if (size < 2 * this.minSplitSize) {
+            return null;
+        }
+        try {
+            final long middle = this.nextLineStart(this.position + size / 2);
+            if (middle <= this.position || middle >= this.end) {
+                return null;
+            }
+            final MappedLineSpliterator prefix = new MappedLineSpliterator(this.channel, this.position, middle, this.windowSize, this.minSplitSize);
+            this.position = middle;
+            return prefix;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.end - this.position;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | IMMUTABLE;
+    }
+
+    /**
+     * Returns offset of the first line start at or after the input offset (end of region if there is none)
+     *
+     * @param offset - input offset
+     * @return offset of the line start
+     * @throws IOException if the file cannot be read
+     */
+    private long nextLineStart(final long offset) throws IOException {
+        final ByteBuffer probe = ByteBuffer.allocate(PROBE_SIZE);
+        long current = offset - 1;
+        while (current < this.end) {
+            probe.clear();
+            probe.limit((int) Math.min(PROBE_SIZE, this.end - current));
+            final int read = this.channel.read(probe, current);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return current + i + 1;
+                }
+            }
+            current += read;
+        }
+        return this.end;
+    }
+
+    /**
+     * Maps window of the region starting at the input offset, the previous window is dropped first
+     *
+     * @param offset - first byte offset of the window
+     * @param window - window size in bytes
+     * @throws IOException if the file cannot be mapped
+     */
+    private void map(final long offset, final int window) throws IOException {
+        this.release();
+        this.buffer = this.channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(window, this.end - offset));
+        this.view = this.buffer.duplicate();
+        this.bufferStart = offset;
+        this.bufferEnd = offset + this.buffer.capacity();
+    }
+
+    /**
+     * Drops the current mapped window (the mapping itself is released when the buffer is collected)
+     */
+    private void release() {
+        this.buffer = null;
+        this.view = null;
+    }
+
+    /**
+     * Returns line decoded from the mapped window bytes [from, to) without the trailing '\r'
+     *
+     * @param from - first byte index in the window (inclusive)
+     * @param to   - last byte index in the window (exclusive)
+     * @return decoded line
+     * @throws UncheckedIOException if the line is not valid UTF-8
+     */
+    private String decode(final int from, final int to) {
+        int length = to - from;
+        if (length > 0 && this.buffer.get(to - 1) == '\r') {
+            length--;
+        }
+        this.view.limit(from + length);
+        this.view.position(from);
+        try {
+            return this.decoder.decode(this.view).toString();
+        } catch (CharacterCodingException ex) {
+            throw new UncheckedIOException(String.format("Malformed UTF-8 line at offset {%s}", this.bufferStart + from), ex);
+        }
+    }
+}
@@ -23,8 +23,8 @@
  */
 package com.wildbeeslabs.sensiblemetrics.numeralyzer.utils;
 
-import org.apache.log4j.LogManager;
-import org.apache.log4j.Logger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
@@ -43,7 +43,7 @@ public final class NumberUtils {
     /**
      * Default logger instance
      */
-    private static final Logger LOGGER = LogManager.getLogger(NumberUtils.class);
+    private static final Logger LOGGER = LoggerFactory.getLogger(NumberUtils.class);
     /**
      * Default number format pattern
      */
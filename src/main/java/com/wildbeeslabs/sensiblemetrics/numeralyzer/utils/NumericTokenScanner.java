@@ -0,0 +1,131 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.utils;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+
+/**
+ * Numeric token scanner to extract long values straight from ASCII-compatible (UTF-8) bytes without intermediate strings.
+ * Bytes are split into tokens by the default token delimiters {@code [,./?;:\-"\s#]}, every token yields the value of
+ * its decimal digits (other bytes are skipped), which matches splitting lines into lexical tokens and parsing
+ * {@code token.replaceAll("[\\D]", "")}. Tokens may span input buffers, call {@link #finish(LongConsumer)} after the last one.
+ *
+ * @author alexander.rogalskiy
+ * @version 1.0
+ * @since 2018-11-30
+ */
+public class NumericTokenScanner {
+
+    /**
+     * Maximum value before the next decimal digit causes an overflow
+     */
+    private static final long OVERFLOW_LIMIT = Long.MAX_VALUE / 10;
+
+    private long value;
+    private int digits;
+    private boolean content;
+
+    /**
+     * Scans bytes of the input range and passes values of all completed tokens to the sink
+     *
+     * @param buffer - input bytes
+     * @param offset - first byte offset
+     * @param length - number of bytes
+     * @param sink   - value consumer
+     */
+    public void scan(final byte[] buffer, final int offset, final int length, final LongConsumer sink) {
+        Objects.requireNonNull(sink);
+        if (offset < 0 || length < 0 || offset > buffer.length - length) {
+            throw new IndexOutOfBoundsException(String.format("Invalid argument: range [%s, %s) is out of bounds {%s}", offset, offset + length, buffer.length));
+        }
+        for (int i = offset; i < offset + length; i++) {
+            this.accept(buffer[i], sink);
+        }
+    }
+
+    /**
+     * Scans remaining bytes of the input buffer (the buffer position is advanced to its limit) and passes values of all completed tokens to the sink
+     *
+     * @param buffer - input buffer
+     * @param sink   - value consumer
+     */
+    public void scan(final ByteBuffer buffer, final LongConsumer sink) {
+        Objects.requireNonNull(sink);
+        if (buffer.hasArray()) {
+            final int position = buffer.position();
+            this.scan(buffer.array(), buffer.arrayOffset() + position, buffer.remaining(), sink);
+            buffer.position(buffer.limit());
+            return;
+        }
+        while (buffer.hasRemaining()) {
+            this.accept(buffer.get(), sink);
+        }
+    }
+
+    /**
+     * Completes the pending token (if any) and passes its value to the sink
+     *
+     * @param sink - value consumer
+     */
+    public void finish(final LongConsumer sink) {
+        Objects.requireNonNull(sink);
+        this.complete(sink);
+    }
+
+    private void accept(final byte b, final LongConsumer sink) {
+        if (b >= '0' && b <= '9') {
+            final int digit = b - '0';
+            if (this.value > OVERFLOW_LIMIT || (this.value == OVERFLOW_LIMIT && digit > Long.MAX_VALUE % 10)) {
+                this.reset();
+                throw new NumberFormatException("Invalid argument: numeric token exceeds the long range");
+            }
+            this.value = this.value * 10 + digit;
+            this.digits++;
+            this.content = true;
+        } else if (DelimiterTokenizer.DEFAULT.isDelimiter(b)) {
+            this.complete(sink);
+        } else if ((b & 0xff) > ' ') {
+            this.content = true;
+        }
+    }
+
+    private void complete(final LongConsumer sink) {
+        if (this.digits > 0) {
+            final long result = this.value;
+            this.reset();
+            sink.accept(result);
+        } else if (this.content) {
+            this.reset();
+            throw new NumberFormatException("Invalid argument: lexical token has no decimal digits");
+        }
+    }
+
+    private void reset() {
+        this.value = 0;
+        this.digits = 0;
+        this.content = false;
+    }
+}
@@ -24,8 +24,8 @@
 package com.wildbeeslabs.sensiblemetrics.numeralyzer.utils;
 
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.functions.Parser;
-import org.apache.log4j.LogManager;
-import org.apache.log4j.Logger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStreamReader;
@@ -51,7 +51,7 @@ public final class StringUtils {
     /**
      * Default logger instance
      */
-    private static final Logger LOGGER = LogManager.getLogger(StringUtils.class);
+    private static final Logger LOGGER = LoggerFactory.getLogger(StringUtils.class);
 
     /**
      * Default private constructor
@@ -0,0 +1,80 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2017 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.impl;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Helper class to create executors for blocking I/O stages (Java 21 variant of the multi-release jar)
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+public final class IoExecutors {
+
+    /**
+     * Default private constructor
+     */
+    private IoExecutors() {
+        // PRIVATE EMPTY CONSTRUCTOR
+    }
+
+    /**
+     * Returns true if the current runtime supports virtual threads, false - otherwise
+     *
+     * @return true - if virtual threads are supported, false - otherwise
+     */
+    public static boolean isVirtualThreadSupported() {
+        return true;
+    }
+
+    /**
+     * Returns executor starting a new virtual thread per task
+     *
+     * @param prefix - thread name prefix
+     * @return executor service
+     */
+    public static ExecutorService newVirtualThreadExecutor(final String prefix) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(prefix, 1).factory());
+    }
+
+    /**
+     * Returns executor running tasks on a fixed number of daemon platform threads
+     *
+     * @param prefix      - thread name prefix
+     * @param parallelism - number of threads
+     * @return executor service
+     */
+    public static ExecutorService newPlatformThreadExecutor(final String prefix, final int parallelism) {
+        final AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(parallelism, runnable -> {
+            final Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
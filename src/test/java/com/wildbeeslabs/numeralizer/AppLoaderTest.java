@@ -24,8 +24,8 @@
 package com.wildbeeslabs.numeralizer;
 
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.AppLoader;
-import org.apache.log4j.LogManager;
-import org.apache.log4j.Logger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -45,7 +45,7 @@ public class AppLoaderTest {
     /**
      * Default logger instance
      */
-    protected static final Logger LOGGER = LogManager.getLogger(AppLoaderTest.class);
+    protected static final Logger LOGGER = LoggerFactory.getLogger(AppLoaderTest.class);
 
     @Before
     public void setUp() {
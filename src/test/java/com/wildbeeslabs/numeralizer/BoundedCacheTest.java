@@ -0,0 +1,326 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.numeralizer;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.CacheStats;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.impl.BoundedCache;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.impl.LfuEvictionPolicy;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.impl.LongLongCache;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.impl.LongLongCacheAdapter;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.impl.LruEvictionPolicy;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.impl.TinyLfuEvictionPolicy;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.impl.ComplexFactorialMetricsImpl;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.impl.SimpleFactorialMetricsImpl;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.utils.ManagementUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.BlockJUnit4ClassRunner;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases for bounded cache
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+@RunWith(BlockJUnit4ClassRunner.class)
+public class BoundedCacheTest {
+
+    /**
+     * Default logger instance
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(BoundedCacheTest.class);
+
+    @Before
+    public void setUp() {
+        LOGGER.debug("Initializing bounded cache...");
+    }
+
+    @Test
+    public void testLruEviction() {
+        final BoundedCache<Long, Long> cache = new BoundedCache<>(3);
+        for (long i = 1; i <= 3; i++) {
+            cache.write(i, i);
+        }
+        Assert.assertEquals(Long.valueOf(1), cache.read(1L));
+        cache.write(4L, 4L);
+        Assert.assertEquals(3, cache.size());
+        Assert.assertFalse(cache.contains(2L));
+        Assert.assertTrue(cache.contains(1L));
+        Assert.assertNull(cache.load(5L, 5L));
+        Assert.assertEquals(Long.valueOf(5), cache.load(5L, 6L));
+        Assert.assertFalse(cache.contains(3L));
+        cache.delete(1L);
+        Assert.assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testLfuEviction() {
+        final BoundedCache<Long, Long> cache = new BoundedCache<>(3, new LfuEvictionPolicy<>());
+        for (long i = 1; i <= 3; i++) {
+            cache.write(i, i);
+        }
+        cache.read(1L);
+        cache.read(1L);
+        cache.read(3L);
+        cache.write(4L, 4L);
+        Assert.assertFalse(cache.contains(2L));
+        cache.write(5L, 5L);
+        Assert.assertFalse(cache.contains(4L));
+        Assert.assertTrue(cache.contains(1L));
+        Assert.assertTrue(cache.contains(3L));
+        cache.delete(5L);
+        cache.delete(3L);
+        cache.write(6L, 6L);
+        cache.write(7L, 7L);
+        cache.write(8L, 8L);
+        Assert.assertFalse(cache.contains(6L));
+        Assert.assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void testMissRecordedOnce() {
+        final AtomicInteger misses = new AtomicInteger();
+        final BoundedCache<Long, Long> cache = new BoundedCache<>(10, new LruEvictionPolicy<Long>() {
+            @Override
+            public void onMiss(final Long key) {
+                misses.incrementAndGet();
+            }
+        });
+        Assert.assertNull(cache.read(1L));
+        cache.write(1L, 1L);
+        Assert.assertEquals(1, misses.get());
+        Assert.assertNull(cache.load(2L, 2L));
+        Assert.assertEquals(2, misses.get());
+        cache.write(2L, 3L);
+        Assert.assertEquals(Long.valueOf(3), cache.read(2L));
+        Assert.assertEquals(2, misses.get());
+        cache.write(3L, 3L);
+        Assert.assertEquals(3, misses.get());
+        Assert.assertNull(cache.read(4L));
+        cache.write(5L, 5L);
+        Assert.assertEquals(5, misses.get());
+    }
+
+    @Test
+    public void testTinyLfuAdmission() {
+        final BoundedCache<Long, Long> cache = new BoundedCache<>(100, new TinyLfuEvictionPolicy<>(100));
+        for (int round = 0; round < 10; round++) {
+            for (long i = 0; i < 100; i++) {
+                cache.load(i, i);
+                cache.read(i);
+            }
+        }
+        for (long i = 1000; i < 2000; i++) {
+            cache.write(i, i);
+        }
+        long hot = 0;
+        for (long i = 0; i < 100; i++) {
+            hot += cache.contains(i) ? 1 : 0;
+        }
+        Assert.assertTrue("Checking that frequent keys survive a scan: " + hot, hot > 90);
+        Assert.assertEquals(100, cache.size());
+    }
+
+    @Test
+    public void testTinyLfuWriteOnlyAdmission() {
+        final BoundedCache<Long, Long> cache = new BoundedCache<>(10, new TinyLfuEvictionPolicy<>(10));
+        for (long i = 0; i < 10; i++) {
+            cache.write(i, i);
+        }
+        for (long i = 100; i < 1100; i++) {
+            cache.write(i, i);
+        }
+        long original = 0;
+        for (long i = 0; i < 10; i++) {
+            original += cache.contains(i) ? 1 : 0;
+        }
+        Assert.assertEquals("Checking that write-only keys replace aged entries: ", 0, original);
+        Assert.assertEquals(10, cache.size());
+        cache.write(5000L, 5000L);
+        cache.write(5000L, 5000L);
+        cache.write(5001L, 5001L);
+        cache.write(5001L, 5001L);
+        Assert.assertTrue(cache.contains(5000L) || cache.contains(5001L));
+    }
+
+    @Test
+    public void testWeightEviction() {
+        final BoundedCache<String, String> cache = new BoundedCache<>(10, (key, value) -> value.length(), new LfuEvictionPolicy<>());
+        cache.write("a", "12345");
+        cache.write("b", "1234");
+        Assert.assertEquals(9, cache.weight());
+        cache.write("c", "12");
+        Assert.assertEquals(2, cache.size());
+        Assert.assertFalse(cache.contains("a"));
+        Assert.assertEquals(6, cache.weight());
+        cache.write("d", "12345678901");
+        Assert.assertFalse(cache.contains("d"));
+        cache.write("b", "1");
+        Assert.assertEquals(3, cache.weight());
+        cache.write("b", "12345678901");
+        Assert.assertFalse(cache.contains("b"));
+        Assert.assertEquals(2, cache.weight());
+        Assert.assertEquals("BoundedCache(maximumWeight=10, weight=2, policy=LfuEvictionPolicy)", cache.toString());
+        final Map<String, String> loaded = cache.loadAll(Arrays.asList("c", "e"), "0");
+        Assert.assertEquals(2, loaded.size());
+        Assert.assertEquals("12", loaded.get("c"));
+        Assert.assertEquals("0", loaded.get("e"));
+    }
+
+    @Test
+    public void testConcurrentAccess() throws InterruptedException {
+        final BoundedCache<Long, Long> cache = new BoundedCache<>(64, new LfuEvictionPolicy<>());
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final CountDownLatch latch = new CountDownLatch(4);
+        for (int t = 0; t < 4; t++) {
+            final long seed = t;
+            executor.execute(() -> {
+                for (long i = 0; i < 20_000; i++) {
+                    final long key = (i * 31 + seed) % 256;
+                    final Long value = cache.read(key);
+                    if (value == null) {
+                        cache.write(key, key);
+                    } else {
+                        Assert.assertEquals(key, value.longValue());
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        Assert.assertTrue(latch.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+        Assert.assertTrue(cache.size() <= 64);
+        Assert.assertEquals(cache.size(), cache.weight());
+    }
+
+    @Test
+    public void testBoundedComplexFactorialMetrics() {
+        final ComplexFactorialMetricsImpl complexMetrics = new ComplexFactorialMetricsImpl(16);
+        final SimpleFactorialMetricsImpl simpleMetrics = new SimpleFactorialMetricsImpl();
+        for (final long value : new long[]{0, 6, 25, 1000, 123456}) {
+            Assert.assertEquals(simpleMetrics.numOfTrailingZeros(value), complexMetrics.numOfTrailingZeros(value));
+        }
+    }
+
+    @Test
+    public void testLongLongCache() {
+        final LongLongCache cache = new LongLongCache();
+        final Map<Long, Long> expected = new HashMap<>();
+        final Random random = new Random(7);
+        for (int i = 0; i < 200_000; i++) {
+            final long key = random.nextInt(5_000) - 100;
+            if (random.nextInt(3) == 0) {
+                Assert.assertEquals(expected.remove(key) != null, cache.remove(key));
+            } else {
+                cache.put(key, i);
+                expected.put(key, (long) i);
+            }
+            final long probe = random.nextInt(5_000) - 100;
+            Assert.assertEquals(expected.getOrDefault(probe, -1L).longValue(), cache.getOrDefault(probe, -1L));
+        }
+        Assert.assertEquals(expected.size(), cache.size());
+        expected.forEach((key, value) -> Assert.assertEquals(value.longValue(), cache.getOrDefault(key, -1L)));
+    }
+
+    @Test
+    public void testBoundedLongLongCacheAdapter() {
+        final LongLongCacheAdapter cache = new LongLongCacheAdapter(new LongLongCache(100));
+        for (long i = 0; i < 1_000; i++) {
+            cache.write(i, i * i);
+        }
+        Assert.assertTrue(cache.getCache().size() <= 100);
+        Assert.assertEquals(Long.valueOf(0), cache.read(0L));
+        Assert.assertNull(cache.read(-1L));
+        cache.delete(0L);
+        Assert.assertFalse(cache.contains(0L));
+        Assert.assertNull(cache.load(-1L, 5L));
+        Assert.assertEquals(Long.valueOf(5), cache.load(-1L, 7L));
+    }
+
+    @Test
+    public void testCacheStats() throws Exception {
+        final BoundedCache<Long, Long> cache = new BoundedCache<>(2);
+        cache.write(1L, 1L);
+        cache.write(2L, 2L);
+        cache.read(1L);
+        cache.read(3L);
+        cache.load(4L, 4L);
+        final CacheStats stats = cache.stats();
+        Assert.assertEquals(1, stats.getHitCount());
+        Assert.assertEquals(2, stats.getMissCount());
+        Assert.assertEquals(1, stats.getEvictionCount());
+        Assert.assertEquals(2, stats.getSize());
+        Assert.assertEquals(1.0 / 3, stats.hitRate(), 1e-9);
+
+        final ObjectName objectName = ManagementUtils.registerCache("bounded-cache-test", cache);
+        Assert.assertNotNull(objectName);
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        Assert.assertEquals(1L, server.getAttribute(objectName, "HitCount"));
+        Assert.assertEquals(2L, server.getAttribute(objectName, "Size"));
+        Assert.assertNull(ManagementUtils.registerCache("bounded-cache-test", new BoundedCache<Long, Long>(1)));
+        Assert.assertEquals(2L, server.getAttribute(objectName, "Size"));
+        ManagementUtils.unregisterCache("bounded-cache-test");
+        Assert.assertFalse(server.isRegistered(objectName));
+    }
+
+    @Test
+    public void testComplexFactorialMetricsCacheStats() throws Exception {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ComplexFactorialMetricsImpl complexMetrics = new ComplexFactorialMetricsImpl();
+        final ObjectName objectName = ManagementUtils.cacheObjectName(complexMetrics.getFiveCacheName());
+        Assert.assertFalse(server.isRegistered(objectName));
+        try (final ComplexFactorialMetricsImpl metrics = complexMetrics.register();
+             final ComplexFactorialMetricsImpl otherMetrics = new ComplexFactorialMetricsImpl().register()) {
+            metrics.numOfTrailingZeros(1000L);
+            Assert.assertTrue(metrics.getTwoCacheStats().getHitCount() > 0);
+            Assert.assertEquals(200, metrics.getFiveCacheStats().getSize());
+            Assert.assertEquals(200L, server.getAttribute(objectName, "Size"));
+            Assert.assertEquals(0L, server.getAttribute(ManagementUtils.cacheObjectName(otherMetrics.getFiveCacheName()), "Size"));
+        }
+        Assert.assertFalse(server.isRegistered(objectName));
+    }
+
+    @After
+    public void tearDown() {
+    }
+}
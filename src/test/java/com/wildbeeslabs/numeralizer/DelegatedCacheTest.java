@@ -0,0 +1,135 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.numeralizer;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.impl.DelegatedCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.BlockJUnit4ClassRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases for delegated cache
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+@RunWith(BlockJUnit4ClassRunner.class)
+public class DelegatedCacheTest {
+
+    /**
+     * Default logger instance
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(DelegatedCacheTest.class);
+
+    @Before
+    public void setUp() {
+        LOGGER.debug("Initializing delegated cache...");
+    }
+
+    @Test
+    public void testSingleFlightLoading() throws Exception {
+        final DelegatedCache<Long, Long> cache = new DelegatedCache<>();
+        final AtomicInteger loads = new AtomicInteger();
+        final CompletableFuture<Long> gate = new CompletableFuture<>();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final List<CompletableFuture<Long>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> cache.computeIfAbsentAsync(42L, key -> {
+                loads.incrementAndGet();
+                return gate.thenApply(v -> key * v);
+            }), executor).thenCompose(future -> future));
+        }
+        Thread.sleep(100);
+        gate.complete(2L);
+        for (final CompletableFuture<Long> result : results) {
+            Assert.assertEquals(Long.valueOf(84), result.get());
+        }
+        executor.shutdown();
+        Assert.assertEquals(1, loads.get());
+        Assert.assertEquals(1, cache.stats().getLoadSuccessCount());
+        Assert.assertEquals(8, cache.stats().getMissCount());
+        Assert.assertEquals(Long.valueOf(84), cache.read(42L));
+        Assert.assertEquals(Long.valueOf(84), cache.computeIfAbsentAsync(42L, key -> {
+            throw new IllegalStateException("Value should be cached");
+        }).get());
+    }
+
+    @Test
+    public void testFailedLoadingIsNotCached() throws Exception {
+        final DelegatedCache<Long, Long> cache = new DelegatedCache<>();
+        final CompletableFuture<Long> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("Load failure"));
+        Assert.assertTrue(cache.computeIfAbsentAsync(1L, key -> failed).isCompletedExceptionally());
+        Assert.assertEquals(Long.valueOf(1), cache.computeIfAbsentAsync(1L, CompletableFuture::completedFuture).get());
+    }
+
+    @Test
+    public void testBatchLoading() throws Exception {
+        final DelegatedCache<Long, Long> cache = new DelegatedCache<>();
+        cache.write(1L, 10L);
+        cache.write(2L, 20L);
+        final List<Set<Long>> batches = new ArrayList<>();
+        final Map<Long, Long> result = cache.loadAllAsync(Arrays.asList(1L, 2L, 3L, 4L, 3L, 5L), keys -> {
+            batches.add(keys);
+            final Map<Long, Long> values = new HashMap<>();
+            keys.stream().filter(key -> key != 5L).forEach(key -> values.put(key, key * 10));
+            return CompletableFuture.completedFuture(values);
+        }).get();
+        Assert.assertEquals(1, batches.size());
+        Assert.assertEquals(3, batches.get(0).size());
+        Assert.assertEquals(4, result.size());
+        Assert.assertEquals(Long.valueOf(40), cache.read(4L));
+        Assert.assertFalse(cache.contains(5L));
+    }
+
+    @Test
+    public void testLoadAllPreservesEntries() {
+        final DelegatedCache<Long, Long> cache = new DelegatedCache<>();
+        cache.write(1L, 10L);
+        final Map<Long, Long> result = cache.loadAll(Arrays.asList(2L, 3L), 0L);
+        Assert.assertEquals(Long.valueOf(10), result.get(1L));
+        Assert.assertEquals(3, result.size());
+    }
+
+    @After
+    public void tearDown() {
+    }
+}
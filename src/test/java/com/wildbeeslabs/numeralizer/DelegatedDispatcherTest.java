@@ -0,0 +1,211 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.numeralizer;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.DelegatedDispatcher;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.DelegatedRecursiveTask;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.DispatcherStats;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.TaskContext;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.impl.FactorialBatchRecursiveAction;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.impl.LatencyHistogram;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.impl.SimpleFactorialMetricsImpl;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.factorial.impl.SimpleFactorialMetricsProcessorImpl;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.utils.ManagementUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.BlockJUnit4ClassRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Test cases for delegated dispatcher
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+@RunWith(BlockJUnit4ClassRunner.class)
+public class DelegatedDispatcherTest {
+
+    /**
+     * Default logger instance
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(DelegatedDispatcherTest.class);
+
+    @Before
+    public void setUp() {
+        LOGGER.debug("Initializing delegated dispatcher...");
+    }
+
+    @Test
+    public void testConfigure() throws Exception {
+        DelegatedDispatcher.configure(3, true);
+        Assert.assertEquals(3, DelegatedDispatcher.getForkJoinPool().getParallelism());
+        Assert.assertTrue(DelegatedDispatcher.getForkJoinPool().getAsyncMode());
+
+        final long taskCount = DelegatedDispatcher.stats().getTaskCount();
+        Assert.assertEquals(Integer.valueOf(42), DelegatedDispatcher.execute(new RecursiveTask<Integer>() {
+            @Override
+            protected Integer compute() {
+                Assert.assertTrue(Thread.currentThread().getName().startsWith("numeralyzer-worker-"));
+                return 42;
+            }
+        }));
+        final DispatcherStats stats = DelegatedDispatcher.stats();
+        Assert.assertEquals(taskCount + 1, stats.getTaskCount());
+        Assert.assertEquals(3, stats.getParallelism());
+        Assert.assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(ManagementUtils.dispatcherObjectName(DelegatedDispatcher.DEFAULT_NAME)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConfigureInvalidParallelism() {
+        DelegatedDispatcher.configure(0, null);
+    }
+
+    @Test
+    public void testLatencyHistogram() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(0, histogram.getPercentile(99));
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000);
+        }
+        Assert.assertEquals(1000, histogram.getCount());
+        Assert.assertEquals(1_000_000, histogram.getMax());
+        Assert.assertEquals(500_500, histogram.getMean(), 0.0);
+        final long median = histogram.getPercentile(50);
+        Assert.assertTrue(median >= 500_000 && median < 500_000 * (1 + 1.0 / LatencyHistogram.SUB_BUCKETS));
+        final long p99 = histogram.getPercentile(99);
+        Assert.assertTrue(p99 >= 990_000 && p99 <= 1_000_000);
+        Assert.assertEquals(1_000_000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void testRecursiveTask() {
+        Assert.assertEquals(Long.valueOf(500_000_500_000L), DelegatedDispatcher.execute(new SumRecursiveTask(1, 1_000_000, -1)));
+        Assert.assertEquals(Long.valueOf(500_000_500_000L), new SumRecursiveTask(1, 1_000_000, -1).invoke());
+    }
+
+    @Test
+    public void testRecursiveTaskFailure() {
+        final SumRecursiveTask task = new SumRecursiveTask(1, 1_000_000, 777_777);
+        try {
+            DelegatedDispatcher.execute(task);
+            Assert.fail();
+        } catch (IllegalStateException ex) {
+            Assert.assertTrue(ex.getMessage().contains("777777"));
+        }
+        Assert.assertTrue(task.getContext().isCancelled());
+    }
+
+    @Test
+    public void testRecursiveTaskCancellation() {
+        final SumRecursiveTask task = new SumRecursiveTask(1, 1_000_000, -1);
+        final TaskContext context = new TaskContext();
+        context.cancel();
+        task.setContext(context);
+        try {
+            DelegatedDispatcher.execute(task);
+            Assert.fail();
+        } catch (CancellationException ex) {
+            LOGGER.debug("Task was cancelled: {}", ex.getMessage());
+        }
+    }
+
+    @Test(expected = CancellationException.class)
+    public void testRecursiveTaskDeadline() throws Exception {
+        final SumRecursiveTask task = new SumRecursiveTask(1, 1_000_000, -1);
+        task.setContext(new TaskContext(1, TimeUnit.NANOSECONDS));
+        Thread.sleep(1);
+        DelegatedDispatcher.execute(task);
+    }
+
+    @Test
+    public void testFactorialBatchRecursiveAction() {
+        final SimpleFactorialMetricsProcessorImpl processor = new SimpleFactorialMetricsProcessorImpl();
+        processor.setMetrics(new SimpleFactorialMetricsImpl());
+        final List<String> tokens = new Random(42).longs(100_000, 0, Long.MAX_VALUE).mapToObj(Long::toString).collect(Collectors.toList());
+        final long[] values = new long[tokens.size()];
+        final long[] output = new long[tokens.size()];
+        DelegatedDispatcher.execute(new FactorialBatchRecursiveAction<>(tokens, Long::parseLong, processor, null, values, output));
+        for (int i = 0; i < tokens.size(); i++) {
+            Assert.assertEquals(Long.parseLong(tokens.get(i)), values[i]);
+            Assert.assertEquals(processor.countTrailingZeros(values[i]), output[i]);
+        }
+    }
+
+    @After
+    public void tearDown() {
+        DelegatedDispatcher.configure(null, null);
+    }
+
+    private static class SumRecursiveTask extends DelegatedRecursiveTask<long[], Long, SumRecursiveTask> {
+
+        private final long failure;
+
+        SumRecursiveTask(final long from, final long to, final long failure) {
+            super(new long[]{from, to});
+            this.failure = failure;
+        }
+
+        @Override
+        protected List<SumRecursiveTask> createSubtasks() {
+            final long middle = (this.getValue()[0] + this.getValue()[1]) >>> 1;
+            return Arrays.asList(new SumRecursiveTask(this.getValue()[0], middle, this.failure), new SumRecursiveTask(middle + 1, this.getValue()[1], this.failure));
+        }
+
+        @Override
+        protected boolean validateCondition() {
+            return this.getValue()[1] - this.getValue()[0] > 1000;
+        }
+
+        @Override
+        protected Long process(final long[] value) {
+            long sum = 0;
+            for (long i = value[0]; i <= value[1]; i++) {
+                if (i == this.failure) {
+                    throw new IllegalStateException(String.format("Invalid value: %s", i));
+                }
+                sum += i;
+            }
+            return sum;
+        }
+
+        @Override
+        protected Long reduceData(final Long first, final Long second) {
+            return first + second;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.numeralizer;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.IExactFactorialMetrics;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.IInverseFactorialMetrics;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.IRadixFactorialMetrics;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.impl.DigitCountFactorialMetricsImpl;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.impl.ExactFactorialMetricsImpl;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.impl.InverseFactorialMetricsImpl;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.impl.LastDigitFactorialMetricsImpl;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.impl.RadixFactorialMetricsImpl;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.impl.SimpleFactorialMetricsImpl;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.factorial.impl.DigitCountFactorialMetricsProcessorImpl;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.factorial.impl.LastDigitFactorialMetricsProcessorImpl;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.factorial.impl.RadixFactorialMetricsProcessorImpl;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.factorial.impl.SimpleFactorialMetricsProcessorImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.BlockJUnit4ClassRunner;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * Test cases for factorial metrics
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+@RunWith(BlockJUnit4ClassRunner.class)
+public class FactorialMetricsTest {
+
+    /**
+     * Default logger instance
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(FactorialMetricsTest.class);
+
+    @Before
+    public void setUp() {
+        LOGGER.debug("Initializing factorial metrics...");
+    }
+
+    @Test
+    public void testRadixFactorialMetrics() {
+        final IRadixFactorialMetrics metrics = new RadixFactorialMetricsImpl();
+        final long[] radixes = {2, 3, 7, 8, 10, 12, 16, 36, 60, 97};
+        BigInteger factorial = BigInteger.ONE;
+        for (long n = 0; n <= 300; n++) {
+            factorial = (n > 1) ? factorial.multiply(BigInteger.valueOf(n)) : factorial;
+            for (final long radix : radixes) {
+                Assert.assertEquals("Checking the number of trailing zeros of " + n + "! in radix " + radix, trailingZeros(factorial, radix), metrics.numOfTrailingZeros(n, radix));
+            }
+        }
+    }
+
+    @Test
+    public void testRadixFactorialMetricsDefaultRadix() {
+        final RadixFactorialMetricsProcessorImpl metricsProcessor = new RadixFactorialMetricsProcessorImpl();
+        metricsProcessor.setMetrics(new RadixFactorialMetricsImpl());
+        final SimpleFactorialMetricsImpl simpleMetrics = new SimpleFactorialMetricsImpl();
+        for (final long value : new long[]{0, 6, 12, 8455757, 800000, 1_000_000_000_000L, Long.MAX_VALUE}) {
+            Assert.assertEquals(simpleMetrics.numOfTrailingZeros(value), metricsProcessor.countTrailingZeros(value));
+        }
+        Assert.assertEquals(0L, metricsProcessor.countTrailingZeros(-1L));
+        Assert.assertEquals(0L, metricsProcessor.countTrailingZeros(Long.valueOf(-1L)).longValue());
+        Assert.assertEquals(0L, metricsProcessor.countTrailingZeros(null).longValue());
+        Assert.assertEquals(4L, metricsProcessor.countTrailingZeros(6L, 2).longValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRadixFactorialMetricsInvalidRadix() {
+        new RadixFactorialMetricsImpl().numOfTrailingZeros(10L, 1);
+    }
+
+    @Test
+    public void testLongFactorialMetricsBatch() {
+        final SimpleFactorialMetricsProcessorImpl metricsProcessor = new SimpleFactorialMetricsProcessorImpl();
+        metricsProcessor.setMetrics(new SimpleFactorialMetricsImpl());
+        final long[] values = {8455757, 0, 21, 35, 800000, 10, -5, Long.MIN_VALUE};
+        final long[] expected = {2113935, 0, 4, 8, 199999, 2, 0, 0};
+
+        final long[] output = new long[values.length];
+        metricsProcessor.countTrailingZeros(values, output);
+        Assert.assertArrayEquals(expected, output);
+
+        final long[] rangeOutput = new long[values.length + 1];
+        metricsProcessor.countTrailingZeros(values, 2, 3, rangeOutput, 1);
+        Assert.assertArrayEquals(new long[]{0, 4, 8, 199999, 0, 0, 0, 0, 0}, rangeOutput);
+
+        final LongBuffer heapBuffer = LongBuffer.allocate(values.length + 1);
+        heapBuffer.put(-1L);
+        metricsProcessor.countTrailingZeros(values, heapBuffer);
+        Assert.assertEquals(values.length + 1, heapBuffer.position());
+        Assert.assertEquals(expected[0], heapBuffer.get(1));
+
+        final LongBuffer directBuffer = ByteBuffer.allocateDirect(values.length * Long.BYTES).asLongBuffer();
+        metricsProcessor.countTrailingZeros(values, directBuffer);
+        directBuffer.flip();
+        final long[] directOutput = new long[values.length];
+        directBuffer.get(directOutput);
+        Assert.assertArrayEquals(expected, directOutput);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testLongFactorialMetricsBatchInvalidRange() {
+        new SimpleFactorialMetricsImpl().numOfTrailingZeros(new long[2], 1, 2, new long[2], 0);
+    }
+
+    @Test
+    public void testInverseFactorialMetrics() {
+        final IInverseFactorialMetrics metrics = new InverseFactorialMetricsImpl();
+        long value = 0;
+        for (long zeros = 0; zeros <= 2000; zeros++) {
+            while (metrics.numOfTrailingZeros(value) < zeros) {
+                value++;
+            }
+            Assert.assertEquals("Checking the lower bound of " + zeros + " trailing zeros", value, metrics.lowerBoundOf(zeros));
+            final long[] values = metrics.valuesOf(zeros);
+            if (metrics.numOfTrailingZeros(value) == zeros) {
+                Assert.assertArrayEquals(new long[]{value, value + 1, value + 2, value + 3, value + 4}, values);
+            } else {
+                Assert.assertEquals(0, values.length);
+            }
+        }
+        Assert.assertEquals(0, metrics.valuesOf(5).length);
+        Assert.assertEquals(2113935L, metrics.numOfTrailingZeros(metrics.lowerBoundOf(2113935L)));
+        Assert.assertEquals(IInverseFactorialMetrics.MAX_TRAILING_ZEROS, metrics.numOfTrailingZeros(metrics.lowerBoundOf(IInverseFactorialMetrics.MAX_TRAILING_ZEROS)));
+    }
+
+    @Test
+    public void testInverseFactorialMetricsBatch() {
+        final IInverseFactorialMetrics metrics = new InverseFactorialMetricsImpl();
+        final long[] zeros = new long[1_000_000];
+        for (int i = 0; i < zeros.length; i++) {
+            zeros[i] = 3L * i;
+        }
+        zeros[zeros.length / 2] = 7;
+        final long[] output = new long[zeros.length];
+        metrics.lowerBoundOf(zeros, output);
+        for (int i = 0; i < zeros.length; i += 997) {
+            Assert.assertEquals(metrics.lowerBoundOf(zeros[i]), output[i]);
+        }
+        Assert.assertEquals(metrics.lowerBoundOf(7), output[zeros.length / 2]);
+        Assert.assertEquals(metrics.lowerBoundOf(zeros[zeros.length / 2 + 1]), output[zeros.length / 2 + 1]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInverseFactorialMetricsInvalidZeros() {
+        new InverseFactorialMetricsImpl().lowerBoundOf(-1);
+    }
+
+    @Test
+    public void testLastDigitFactorialMetrics() {
+        final LastDigitFactorialMetricsProcessorImpl metricsProcessor = new LastDigitFactorialMetricsProcessorImpl();
+        metricsProcessor.setMetrics(new LastDigitFactorialMetricsImpl());
+        final long[] values = new long[1001];
+        final long[] expected = new long[values.length];
+        BigInteger factorial = BigInteger.ONE;
+        for (int n = 0; n < values.length; n++) {
+            factorial = (n > 1) ? factorial.multiply(BigInteger.valueOf(n)) : factorial;
+            values[n] = n;
+            expected[n] = factorial.divide(BigInteger.TEN.pow((int) trailingZeros(factorial, 10))).mod(BigInteger.TEN).longValue();
+            Assert.assertEquals("Checking the last non-zero digit of " + n + "!", expected[n], metricsProcessor.lastNonZeroDigit(n));
+        }
+        final long[] output = new long[values.length];
+        metricsProcessor.lastNonZeroDigit(values, output);
+        Assert.assertArrayEquals(expected, output);
+        Assert.assertEquals(1L, metricsProcessor.lastNonZeroDigit(Long.valueOf(-1L)).longValue());
+        Assert.assertEquals(1L, metricsProcessor.lastNonZeroDigit(null).longValue());
+        Assert.assertEquals(249L, metricsProcessor.countTrailingZeros(1000L));
+        Assert.assertTrue(metricsProcessor.lastNonZeroDigit(Long.MAX_VALUE) % 2 == 0);
+    }
+
+    @Test
+    public void testDigitCountFactorialMetrics() {
+        final DigitCountFactorialMetricsProcessorImpl metricsProcessor = new DigitCountFactorialMetricsProcessorImpl();
+        metricsProcessor.setMetrics(new DigitCountFactorialMetricsImpl());
+        BigInteger factorial = BigInteger.ONE;
+        for (long n = 0; n <= 2000; n++) {
+            factorial = (n > 1) ? factorial.multiply(BigInteger.valueOf(n)) : factorial;
+            Assert.assertEquals("Checking the number of digits of " + n + "!", factorial.toString().length(), metricsProcessor.countDigits(n));
+        }
+        Assert.assertEquals(2568L, metricsProcessor.countDigits(1000L));
+        Assert.assertEquals(5565709L, metricsProcessor.countDigits(1_000_000L));
+        Assert.assertEquals(8565705523L, metricsProcessor.countDigits(1_000_000_000L));
+        Assert.assertEquals(1L, metricsProcessor.countDigits(Long.valueOf(-1L)).longValue());
+
+        final long[] output = new long[3];
+        metricsProcessor.countDigits(new long[]{-5, 1000, 1_000_000}, output);
+        Assert.assertArrayEquals(new long[]{1, 2568, 5565709}, output);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testDigitCountFactorialMetricsOverflow() {
+        new DigitCountFactorialMetricsImpl().numOfDigits(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void testExactFactorialMetrics() {
+        final IExactFactorialMetrics metrics = new ExactFactorialMetricsImpl();
+        BigInteger factorial = BigInteger.ONE;
+        for (long n = 0; n <= 30000; n++) {
+            factorial = (n > 1) ? factorial.multiply(BigInteger.valueOf(n)) : factorial;
+            if (n <= 300 || n % 9973 == 0 || n == 30000) {
+                Assert.assertEquals("Checking the exact factorial of " + n, factorial, metrics.factorial(n));
+            }
+        }
+        Assert.assertEquals(2568, metrics.factorial(1000).toString().length());
+        Assert.assertEquals(30000 - Long.bitCount(30000), metrics.factorial(30000).getLowestSetBit());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testExactFactorialMetricsInvalidValue() {
+        new ExactFactorialMetricsImpl().factorial(-1);
+    }
+
+    private static long trailingZeros(final BigInteger value, final long radix) {
+        final BigInteger base = BigInteger.valueOf(radix);
+        BigInteger temp = value;
+        long count = 0;
+        while (temp.mod(base).signum() == 0) {
+            temp = temp.divide(base);
+            count++;
+        }
+        return count;
+    }
+
+    @After
+    public void tearDown() {
+    }
+}
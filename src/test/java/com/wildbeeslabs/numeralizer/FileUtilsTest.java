@@ -0,0 +1,174 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.numeralizer;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.dispatcher.DelegatedDispatcher;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.impl.StringLexicalToken;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.lexical.IGenericLexicalTokenProcessor;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.lexical.impl.StringLexicalTokenProcessorImpl;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.utils.FileUtils;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.utils.MappedLineSpliterator;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.utils.NumericTokenScanner;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.BlockJUnit4ClassRunner;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Test cases for file utilities
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+@RunWith(BlockJUnit4ClassRunner.class)
+public class FileUtilsTest {
+
+    /**
+     * Default logger instance
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileUtilsTest.class);
+
+    private IGenericLexicalTokenProcessor<String, StringLexicalToken> tokenProcessor = new StringLexicalTokenProcessorImpl();
+
+    @Before
+    public void setUp() {
+        LOGGER.debug("Initializing file utilities...");
+        this.tokenProcessor = new StringLexicalTokenProcessorImpl();
+    }
+
+    @Test
+    public void testStreamInputData() throws IOException {
+        final File inputFile = new File("src/test/resources/input.txt");
+        try (final Stream<StringLexicalToken> lexicalTokens = FileUtils.streamFile(inputFile, this.tokenProcessor)) {
+            Assert.assertEquals(FileUtils.readFile(inputFile, this.tokenProcessor), lexicalTokens.collect(Collectors.toList()));
+        }
+        try (final Stream<String> lines = FileUtils.lines(inputFile, 16)) {
+            Assert.assertEquals(Files.readAllLines(inputFile.toPath()), lines.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testMappedInputData() throws IOException {
+        final File inputFile = File.createTempFile("numeralyzer-mapped", ".txt");
+        try {
+            final StringBuilder content = new StringBuilder();
+            for (int i = 0; i < 5000; i++) {
+                content.append(i).append(i % 3 == 0 ? "\r\n" : "\n");
+                if (i % 1000 == 0) {
+                    content.append(StringUtils.repeat("\u00e9", 300)).append("\n\n");
+                }
+            }
+            content.append("last");
+            Files.write(inputFile.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+            final List<String> expectedLines = Files.readAllLines(inputFile.toPath());
+            try (final FileChannel channel = FileChannel.open(inputFile.toPath(), StandardOpenOption.READ)) {
+                final Spliterator<String> spliterator = new MappedLineSpliterator(channel, 0, channel.size(), 64, 128);
+                Assert.assertEquals(expectedLines, StreamSupport.stream(spliterator, true).collect(Collectors.toList()));
+            }
+            try (final Stream<String> lines = FileUtils.mappedLines(inputFile, false)) {
+                Assert.assertEquals(expectedLines, lines.collect(Collectors.toList()));
+            }
+            Assert.assertEquals(expectedLines.stream().filter(StringUtils::isNumeric).collect(Collectors.toList()), FileUtils.readFileByFilter(inputFile, StringUtils::isNumeric));
+            Assert.assertEquals(Files.readAllLines(Paths.get("src/test/resources/input-empty.txt")), FileUtils.readFileByFilter(new File("src/test/resources/input-empty.txt"), line -> true));
+            Files.write(inputFile.toPath(), new byte[]{'1', '\n', '2', (byte) 0xC3, '\n', '3'});
+            try (final Stream<String> lines = FileUtils.mappedLines(inputFile, false)) {
+                lines.collect(Collectors.toList());
+                Assert.fail("Expected UncheckedIOException for malformed input");
+            } catch (UncheckedIOException ex) {
+                Assert.assertTrue(ex.getCause() instanceof CharacterCodingException);
+            }
+        } finally {
+            Files.deleteIfExists(inputFile.toPath());
+        }
+    }
+
+    @Test
+    public void testReadInputFiles() {
+        final File inputFile = new File("src/test/resources/input.txt");
+        final List<StringLexicalToken> lexicalTokens = FileUtils.readFiles(Arrays.asList(inputFile, new File("src/test/resources/input-empty.txt"), inputFile), this.tokenProcessor, DelegatedDispatcher.getIoExecutor());
+        final List<StringLexicalToken> expectedTokens = FileUtils.readFile(inputFile, this.tokenProcessor);
+        Assert.assertEquals("Checking the size of the lexical token list: ", 12, lexicalTokens.size());
+        Assert.assertEquals(expectedTokens, lexicalTokens.subList(0, 6));
+        Assert.assertEquals(expectedTokens, lexicalTokens.subList(6, 12));
+    }
+
+    @Test
+    public void testScanNumericTokens() {
+        final String input = "# 80!, 12a3/45;\"007\"\r\n#\u00e94 9223372036854775807 -1.5";
+        final List<Long> expectedValues = this.tokenProcessor.getLexicalTokens(Stream.of(input.split("\n")))
+            .stream().map(token -> Long.parseLong(token.getData().replaceAll("[\\D]", ""))).collect(Collectors.toList());
+        final byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+        for (int step = 1; step <= bytes.length; step += 7) {
+            final NumericTokenScanner scanner = new NumericTokenScanner();
+            final List<Long> values = new ArrayList<>();
+            for (int offset = 0; offset < bytes.length; offset += step) {
+                scanner.scan(ByteBuffer.wrap(bytes, offset, Math.min(step, bytes.length - offset)).slice(), values::add);
+            }
+            scanner.finish(values::add);
+            Assert.assertEquals(expectedValues, values);
+        }
+        final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        final List<Long> values = new ArrayList<>();
+        final NumericTokenScanner scanner = new NumericTokenScanner();
+        scanner.scan(direct, values::add);
+        scanner.finish(values::add);
+        Assert.assertEquals(expectedValues, values);
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testScanNonNumericToken() {
+        final NumericTokenScanner scanner = new NumericTokenScanner();
+        scanner.scan("12 abc 3".getBytes(StandardCharsets.UTF_8), 0, 8, value -> {
+        });
+    }
+
+    @After
+    public void tearDown() {
+    }
+}
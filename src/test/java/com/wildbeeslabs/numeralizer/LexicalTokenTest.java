@@ -0,0 +1,225 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.numeralizer;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.IGenericLexicalToken;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.ITokenBatch;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.impl.GenericLexicalTokenTerm;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.impl.LexicalTokenCursor;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.impl.LexicalTokenView;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.impl.StringLexicalToken;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.impl.TokenLengthStatistics;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.lexical.IStringLexicalTokenMetrics;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.lexical.impl.StringLexicalTokenMetricsImpl;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.lexical.IGenericLexicalTokenProcessor;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.lexical.impl.LexicalTokenViewProcessorImpl;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.lexical.impl.StringLexicalTokenProcessorImpl;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.utils.ConverterUtils;
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.utils.DelimiterTokenizer;
+import org.apache.commons.lang3.SerializationUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.BlockJUnit4ClassRunner;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.LongSummaryStatistics;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test cases for lexical tokens, terms and tokenizers
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+@RunWith(BlockJUnit4ClassRunner.class)
+public class LexicalTokenTest {
+
+    /**
+     * Default logger instance
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(LexicalTokenTest.class);
+
+    private IGenericLexicalTokenProcessor<String, StringLexicalToken> tokenProcessor = new StringLexicalTokenProcessorImpl();
+
+    @Before
+    public void setUp() {
+        LOGGER.debug("Initializing lexical token processor...");
+        this.tokenProcessor = new StringLexicalTokenProcessorImpl();
+    }
+
+    @Test
+    public void testTokenIdentityModes() {
+        final List<String> input = Arrays.asList("1 2", "3");
+        final List<StringLexicalToken> sequenceTokens = new StringLexicalTokenProcessorImpl(IGenericLexicalToken.IdentityMode.SEQUENCE).getLexicalTokens(input.stream());
+        Assert.assertEquals(3, sequenceTokens.size());
+        for (int i = 1; i < sequenceTokens.size(); i++) {
+            Assert.assertEquals(sequenceTokens.get(0).getId().getMostSignificantBits(), sequenceTokens.get(i).getId().getMostSignificantBits());
+            Assert.assertTrue(sequenceTokens.get(i - 1).getId().getLeastSignificantBits() < sequenceTokens.get(i).getId().getLeastSignificantBits());
+        }
+        final StringLexicalToken lazyToken = new StringLexicalToken("1", IGenericLexicalToken.IdentityMode.LAZY);
+        Assert.assertFalse(lazyToken.toString().contains("id="));
+        Assert.assertEquals(IGenericLexicalToken.IdentityMode.RANDOM, new StringLexicalTokenProcessorImpl().getIdentityMode());
+        final StringLexicalToken copy = SerializationUtils.roundtrip(lazyToken);
+        Assert.assertNotNull(copy.getId());
+        Assert.assertEquals(lazyToken.getId(), copy.getId());
+        for (final IGenericLexicalToken.IdentityMode mode : Arrays.asList(IGenericLexicalToken.IdentityMode.RANDOM, IGenericLexicalToken.IdentityMode.LAZY)) {
+            final StringLexicalToken token = new StringLexicalTokenProcessorImpl(mode).getLexicalTokens(input.stream()).get(0);
+            Assert.assertNotNull(token.getId());
+            Assert.assertSame(token.getId(), token.getId());
+        }
+        final List<StringLexicalToken> anonymousTokens = new StringLexicalTokenProcessorImpl(IGenericLexicalToken.IdentityMode.NONE).getLexicalTokens(input.stream());
+        Assert.assertNull(anonymousTokens.get(0).getId());
+        Assert.assertEquals(sequenceTokens, anonymousTokens);
+    }
+
+    @Test
+    public void testDelimiterTokenizer() throws IOException {
+        final List<String> lines = Files.readAllLines(Paths.get("src/test/resources/input2.txt"));
+        lines.addAll(Arrays.asList("", " -- ", "Ab-,\"CD# \u00a0 .\u00c9\u00df\t\u2003; ", "\u0001x\u0001\u000By::\ud83d\ude00z", "12\u00a734?56"));
+        final List<String> expectedTokens = ConverterUtils.<String>getFilteredStream(lines.stream(),
+            token -> token.toString().toLowerCase().trim(), IGenericLexicalTokenProcessor.DEFAULT_TOKEN_DELIMITER).collect(Collectors.toList());
+        Assert.assertEquals(expectedTokens, this.tokenProcessor.getLexicalTokens(lines.stream()).stream().map(StringLexicalToken::getData).collect(Collectors.toList()));
+        final List<String> tokens = new ArrayList<>();
+        new DelimiterTokenizer("\u00a7?").forEachToken("12\u00a734?56", tokens::add);
+        Assert.assertEquals(Arrays.asList("12", "34", "56"), tokens);
+    }
+
+    @Test
+    public void testTokenBatch() throws IOException {
+        final List<String> lines = Files.readAllLines(Paths.get("src/test/resources/input2.txt"));
+        lines.add("A1b, \u00c92 #3");
+        final List<StringLexicalToken> tokens = this.tokenProcessor.getLexicalTokens(lines.stream());
+        final ITokenBatch batch = this.tokenProcessor.getTokenBatch(lines.stream());
+        Assert.assertEquals(tokens.size(), batch.size());
+        final IStringLexicalTokenMetrics tokenMetrics = new StringLexicalTokenMetricsImpl();
+        final int[] lengths = new int[batch.size()];
+        final long[] values = new long[batch.size()];
+        tokenMetrics.length(batch, lengths);
+        tokenMetrics.valueOf(batch, values);
+        final Set<Integer> characters = new HashSet<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            Assert.assertEquals(tokens.get(i).getData(), batch.token(i).toString());
+            Assert.assertEquals(tokenMetrics.length(tokens.get(i)), lengths[i]);
+            Assert.assertEquals(Long.parseLong(tokens.get(i).getData().replaceAll("[\\D]", "")), values[i]);
+            characters.addAll(tokenMetrics.characterSet(tokens.get(i)));
+        }
+        Assert.assertEquals(characters, tokenMetrics.characterSet(batch));
+    }
+
+    @Test
+    public void testLexicalTokenViews() throws IOException {
+        final List<String> lines = Files.readAllLines(Paths.get("src/test/resources/input2.txt"));
+        lines.add(" Ab-,\"c# \u00a0 .dE\t\u2003; ");
+        final List<String> expectedTokens = this.tokenProcessor.getLexicalTokens(lines.stream()).stream().map(StringLexicalToken::getData).collect(Collectors.toList());
+        final List<String> tokens = new ArrayList<>();
+        final LexicalTokenCursor cursor = new LexicalTokenCursor();
+        for (final String line : lines) {
+            cursor.reset(CharBuffer.wrap(line));
+            while (cursor.next()) {
+                tokens.add(cursor.token().toString());
+            }
+        }
+        Assert.assertEquals(expectedTokens, tokens);
+        final List<LexicalTokenView> views = new LexicalTokenViewProcessorImpl().getLexicalTokens(lines.stream().map(CharSequence.class::cast));
+        Assert.assertEquals(expectedTokens, views.stream().map(LexicalTokenView::toString).collect(Collectors.toList()));
+        final Locale locale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            final List<String> nonAsciiLines = Arrays.asList("\u0130STANBUL, Istanbul", "\u03a3\u038a\u03a3\u03a5\u03a6\u039f\u03a3 Stra\u00dfe");
+            final List<StringLexicalToken> nonAsciiTokens = this.tokenProcessor.getLexicalTokens(nonAsciiLines.stream());
+            final List<LexicalTokenView> nonAsciiViews = new LexicalTokenViewProcessorImpl().getLexicalTokens(nonAsciiLines.stream().map(CharSequence.class::cast));
+            Assert.assertEquals(Arrays.asList("istanbul", "istanbul", "\u03c3\u03af\u03c3\u03c5\u03c6\u03bf\u03c3", "stra\u00dfe"),
+                nonAsciiTokens.stream().map(StringLexicalToken::getData).collect(Collectors.toList()));
+            Assert.assertEquals(nonAsciiTokens.stream().map(StringLexicalToken::getData).collect(Collectors.toList()),
+                nonAsciiViews.stream().map(LexicalTokenView::toString).collect(Collectors.toList()));
+            Assert.assertEquals(nonAsciiTokens.get(0).length(), nonAsciiViews.get(0).length());
+        } finally {
+            Locale.setDefault(locale);
+        }
+        final LexicalTokenView view = new LexicalTokenView("# 80!", 2, 3);
+        Assert.assertEquals("80!".hashCode(), view.hashCode());
+        Assert.assertEquals(new LexicalTokenView("80!", 0, 3), view);
+        Assert.assertEquals("0", view.subSequence(1, 2).toString());
+    }
+
+    @Test
+    public void testTokenTermStatistics() {
+        final List<StringLexicalToken> tokens = this.tokenProcessor.getLexicalTokens(Stream.of("1 22 333 4444", "55555 1 22"));
+        final GenericLexicalTokenTerm<String, StringLexicalToken> term = this.createTerm();
+        term.setTokens(tokens.subList(0, 4));
+        final GenericLexicalTokenTerm<String, StringLexicalToken> partialTerm = this.createTerm();
+        tokens.subList(4, tokens.size()).forEach(partialTerm::addToken);
+        term.merge(partialTerm);
+        term.removeToken(tokens.get(3));
+        term.removeToken(new StringLexicalToken("missing"));
+        final List<Integer> lengths = term.getTokens().stream().map(StringLexicalToken::length).collect(Collectors.toList());
+        final LongSummaryStatistics expected = lengths.stream().collect(Collectors.summarizingLong(Integer::longValue));
+        final TokenLengthStatistics statistics = term.getLengthStatistics();
+        Assert.assertEquals(expected.getCount(), statistics.getCount());
+        Assert.assertEquals(expected.getSum(), statistics.getSum());
+        Assert.assertEquals(expected.getMin(), statistics.getMin());
+        Assert.assertEquals(expected.getMax(), statistics.getMax());
+        Assert.assertEquals(expected.getAverage(), statistics.getAverage(), 1e-9);
+        final double variance = lengths.stream().mapToDouble(length -> Math.pow(length - expected.getAverage(), 2)).sum() / lengths.size();
+        Assert.assertEquals(variance, statistics.getVariance(), 1e-9);
+        Assert.assertEquals(expected.getCount(), term.getTokenCount());
+        Assert.assertEquals(expected.getSum(), term.getTokenLengthSum());
+        Assert.assertEquals(expected.getAverage(), term.getAverageTokenLength(), 1e-9);
+        Assert.assertEquals(variance, term.getTokenLengthVariance(), 1e-9);
+        term.setTokens(null);
+        Assert.assertEquals(0, term.getTokenCount());
+        Assert.assertEquals(0.0, term.getAverageTokenLength(), 0.0);
+        Assert.assertEquals(Long.MAX_VALUE, term.getLengthStatistics().getMin());
+    }
+
+    private GenericLexicalTokenTerm<String, StringLexicalToken> createTerm() {
+        return new GenericLexicalTokenTerm<String, StringLexicalToken>() {
+
+            @Override
+            public List<StringLexicalToken> getTokens() {
+                return this.tokens;
+            }
+        };
+    }
+
+    @After
+    public void tearDown() {
+    }
+}
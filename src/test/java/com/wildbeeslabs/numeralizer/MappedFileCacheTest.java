@@ -0,0 +1,160 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 WildBees Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.wildbeeslabs.numeralizer;
+
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.cache.impl.MappedFileCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.BlockJUnit4ClassRunner;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Test cases for memory-mapped file cache
+ *
+ * @author Alex
+ * @version 1.0.0
+ * @since 2018-11-30
+ */
+@RunWith(BlockJUnit4ClassRunner.class)
+public class MappedFileCacheTest {
+
+    /**
+     * Default logger instance
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(MappedFileCacheTest.class);
+
+    private Path cacheFile;
+
+    @Before
+    public void setUp() throws IOException {
+        LOGGER.debug("Initializing memory-mapped file cache...");
+        this.cacheFile = Files.createTempFile("numeralyzer", ".cache");
+    }
+
+    @Test
+    public void testPersistenceAcrossInstances() throws IOException {
+        try (final MappedFileCache cache = new MappedFileCache(this.cacheFile, 1 << 16)) {
+            for (long i = 0; i < 1_000; i++) {
+                cache.write(i * 7919, i);
+            }
+            cache.delete(0L);
+            Assert.assertNull(cache.load(-5L, 3L));
+        }
+        try (final MappedFileCache cache = new MappedFileCache(this.cacheFile, 1 << 16)) {
+            for (long i = 1; i < 1_000; i++) {
+                Assert.assertEquals(Long.valueOf(i), cache.read(i * 7919));
+            }
+            Assert.assertFalse(cache.contains(0L));
+            Assert.assertEquals(Long.valueOf(3), cache.read(-5L));
+            cache.write(7919L, 42L);
+            Assert.assertEquals(Long.valueOf(42), cache.read(7919L));
+        }
+    }
+
+    @Test
+    public void testTornSlotDetection() throws IOException {
+        try (final MappedFileCache cache = new MappedFileCache(this.cacheFile, 1 << 12)) {
+            cache.write(1L, 100L);
+        }
+        final long slotOffset = findSlot(1L);
+        try (final RandomAccessFile file = new RandomAccessFile(this.cacheFile.toFile(), "rw")) {
+            file.seek(slotOffset + Long.BYTES);
+            file.writeLong(101L);
+        }
+        try (final MappedFileCache cache = new MappedFileCache(this.cacheFile, 1 << 12)) {
+            Assert.assertNull(cache.read(1L));
+            cache.write(1L, 102L);
+            Assert.assertEquals(Long.valueOf(102), cache.read(1L));
+        }
+    }
+
+    @Test
+    public void testVersionMismatch() throws IOException {
+        try (final MappedFileCache cache = new MappedFileCache(this.cacheFile, 1 << 12)) {
+            cache.write(1L, 100L);
+        }
+        try (final RandomAccessFile file = new RandomAccessFile(this.cacheFile.toFile(), "rw")) {
+            file.seek(8);
+            file.writeInt(MappedFileCache.VERSION + 1);
+        }
+        try (final MappedFileCache cache = new MappedFileCache(this.cacheFile, 1 << 12)) {
+            Assert.assertFalse(cache.contains(1L));
+        }
+    }
+
+    @Test
+    public void testLargerFileIsTruncated() throws IOException {
+        try (final MappedFileCache cache = new MappedFileCache(this.cacheFile, 1 << 12)) {
+            cache.write(1L, 100L);
+        }
+        final long mappedSize = Files.size(this.cacheFile);
+        try (final RandomAccessFile file = new RandomAccessFile(this.cacheFile.toFile(), "rw")) {
+            file.setLength(mappedSize + 1_000);
+        }
+        try (final MappedFileCache cache = new MappedFileCache(this.cacheFile, 1 << 12)) {
+            Assert.assertEquals(Long.valueOf(100), cache.read(1L));
+        }
+        Assert.assertEquals(mappedSize, Files.size(this.cacheFile));
+    }
+
+    @Test
+    public void testFullTable() throws IOException {
+        try (final MappedFileCache cache = new MappedFileCache(this.cacheFile, 64 + 4 * 24)) {
+            for (long i = 0; i < 10; i++) {
+                cache.write(i, i);
+            }
+            long stored = 0;
+            for (long i = 0; i < 10; i++) {
+                stored += cache.contains(i) ? 1 : 0;
+            }
+            Assert.assertEquals(4, stored);
+        }
+    }
+
+    private long findSlot(final long key) throws IOException {
+        final byte[] content = Files.readAllBytes(this.cacheFile);
+        final ByteBuffer buffer = ByteBuffer.wrap(content);
+        for (int offset = 64; offset + 24 <= content.length; offset += 24) {
+            if (buffer.getLong(offset) == key && buffer.getLong(offset + 16) > 0) {
+                return offset;
+            }
+        }
+        throw new IllegalStateException("Slot not found");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.cacheFile);
+    }
+}
@@ -24,8 +24,8 @@
 package com.wildbeeslabs.numeralizer;
 
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.utils.NumberUtils;
-import org.apache.log4j.LogManager;
-import org.apache.log4j.Logger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -46,7 +46,7 @@ public class NumberUtilsTest {
     /**
      * Default logger instance
      */
-    private static final Logger LOGGER = LogManager.getLogger(NumberUtilsTest.class);
+    private static final Logger LOGGER = LoggerFactory.getLogger(NumberUtilsTest.class);
 
     @Before
     public void setUp() {
@@ -23,6 +23,7 @@
  */
 package com.wildbeeslabs.numeralizer;
 
+import com.wildbeeslabs.sensiblemetrics.numeralyzer.NumericAnalyzer;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.entities.impl.StringLexicalToken;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.impl.ComplexFactorialMetricsImpl;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.metrics.factorial.impl.SimpleFactorialMetricsImpl;
@@ -34,8 +35,8 @@ import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.lexical.IGenericL
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.processors.lexical.impl.StringLexicalTokenProcessorImpl;
 import com.wildbeeslabs.sensiblemetrics.numeralyzer.utils.FileUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.log4j.LogManager;
-import org.apache.log4j.Logger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -45,8 +46,10 @@ import org.junit.runners.BlockJUnit4ClassRunner;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -65,7 +68,7 @@ public class NumericAnalyzerTest {
     /**
      * Default logger instance
      */
-    private static final Logger LOGGER = LogManager.getLogger(NumericAnalyzerTest.class);
+    private static final Logger LOGGER = LoggerFactory.getLogger(NumericAnalyzerTest.class);
 
     private IGenericLexicalTokenProcessor<String, StringLexicalToken> tokenProcessor = new StringLexicalTokenProcessorImpl();
 
@@ -93,12 +96,59 @@ public class NumericAnalyzerTest {
         Assert.assertEquals("Checking the size of token list:", 0, lexicalTokens.size());
     }
 
+    @Test
+    public void testEngineModes() throws IOException {
+        final File batchOutput = File.createTempFile("numeralyzer-batch", ".txt");
+        final File pipelineOutput = File.createTempFile("numeralyzer-pipeline", ".txt");
+        try {
+            new NumericAnalyzer().init("-in", "src/test/resources/input.txt", "-out", batchOutput.getPath(), "-e", "batch");
+            new NumericAnalyzer().init("-in", "src/test/resources/input.txt", "-out", pipelineOutput.getPath(), "-e", "pipeline");
+            final List<String> batchLines = Files.readAllLines(batchOutput.toPath());
+            Assert.assertEquals("Checking the size of the output: ", 6, batchLines.size());
+            Assert.assertEquals(batchLines, Files.readAllLines(pipelineOutput.toPath()));
+            new NumericAnalyzer().init("-in", "src/test/resources/input.txt", "-out", batchOutput.getPath(), "-e", "batch", "-t", "numeric");
+            new NumericAnalyzer().init("-in", "src/test/resources/input.txt", "-out", pipelineOutput.getPath(), "-e", "pipeline", "-t", "numeric");
+            Assert.assertEquals(batchLines, Files.readAllLines(batchOutput.toPath()));
+            Assert.assertEquals(batchLines, Files.readAllLines(pipelineOutput.toPath()));
+            new NumericAnalyzer().init("-in", "src/test/resources/input.txt", "-out", batchOutput.getPath(), "-e", "batch", "-m", "complex");
+            new NumericAnalyzer().init("-in", "src/test/resources/input.txt", "-out", pipelineOutput.getPath(), "-e", "pipeline", "-m", "complex");
+            Assert.assertEquals(batchLines, Files.readAllLines(batchOutput.toPath()));
+            Assert.assertEquals(batchLines, Files.readAllLines(pipelineOutput.toPath()));
+        } finally {
+            Files.deleteIfExists(batchOutput.toPath());
+            Files.deleteIfExists(pipelineOutput.toPath());
+        }
+        final File badInput = File.createTempFile("numeralyzer-bad-input", ".txt");
+        try {
+            Files.write(badInput.toPath(), Arrays.asList("# 80!", "# abc!", "# 21!"), StandardCharsets.UTF_8);
+            for (final String engine : Arrays.asList("batch", "pipeline")) {
+                for (final String parser : Arrays.asList("lexical", "numeric")) {
+                    final File output = File.createTempFile("numeralyzer-bad-output", ".txt");
+                    try {
+                        new NumericAnalyzer().init("-in", badInput.getPath(), "-out", output.getPath(), "-e", engine, "-t", parser);
+                        Assert.fail(String.format("Expected NumberFormatException for engine=%s, parser=%s", engine, parser));
+                    } catch (NumberFormatException ex) {
+                        if ("pipeline".equals(engine)) {
+                            Assert.assertFalse("Checking the partial output is deleted: ", output.exists());
+                        }
+                    } finally {
+                        Files.deleteIfExists(output.toPath());
+                    }
+                }
+            }
+        } finally {
+            Files.deleteIfExists(badInput.toPath());
+        }
+    }
+
     @Test
     public void testSimpleFactorialProcessorImpl() {
         final String inputFile = "src/test/resources/input.txt";
         final List<StringLexicalToken> lexicalTokens = FileUtils.readFile(new File(inputFile), this.tokenProcessor);
 
-        LOGGER.debug(String.format("Input collection of lexical tokens: {%s}", StringUtils.join(lexicalTokens, "|")));
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Input collection of lexical tokens: {{}}", StringUtils.join(lexicalTokens, "|"));
+        }
 
         final IStringLexicalTokenMetrics tokenMetrics = new StringLexicalTokenMetricsImpl();
         final SimpleFactorialMetricsProcessorImpl metricsProcessor = new SimpleFactorialMetricsProcessorImpl();
@@ -116,7 +166,9 @@ public class NumericAnalyzerTest {
         final String inputFile = "src/test/resources/input.txt";
         final List<StringLexicalToken> lexicalTokens = FileUtils.readFile(new File(inputFile), this.tokenProcessor);
 
-        LOGGER.debug(String.format("Input collection of lexical tokens: {%s}", StringUtils.join(lexicalTokens, "|")));
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Input collection of lexical tokens: {{}}", StringUtils.join(lexicalTokens, "|"));
+        }
 
         final IStringLexicalTokenMetrics tokenMetrics = new StringLexicalTokenMetricsImpl();
         final ComplexFactorialMetricsProcessorImpl metricsProcessor = new ComplexFactorialMetricsProcessorImpl();
@@ -144,7 +196,9 @@ public class NumericAnalyzerTest {
         }).collect(Collectors.toList());
 
         String outputFile = "src/test/resources/output.txt";
-        LOGGER.debug(String.format("Output collection of factorized lexical tokens: {%s}", StringUtils.join(resultList, "|")));
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Output collection of factorized lexical tokens: {{}}", StringUtils.join(resultList, "|"));
+        }
         FileUtils.writeFile(new File(outputFile), resultList);
 
         try (final Stream<String> stream = Files.lines(Paths.get(outputFile), FileUtils.DEFAULT_FILE_CHARACTER_ENCODING)) {
@@ -152,7 +206,7 @@ public class NumericAnalyzerTest {
             Assert.assertTrue(firstLine.isPresent());
             Assert.assertEquals("Checking the first line of output token list: ", "2113935", firstLine.get());
         } catch (IOException ex) {
-            LOGGER.error(String.format("ERROR: cannot read from input file=%s, message=%s", String.valueOf(outputFile), ex.getMessage()));
+            LOGGER.error("ERROR: cannot read from input file={}, message={}", outputFile, ex.getMessage());
         }
     }
 
@@ -171,7 +225,9 @@ public class NumericAnalyzerTest {
         }).collect(Collectors.toList());
 
         String outputFile = "src/test/resources/output.txt";
-        LOGGER.debug(String.format("Output collection of factorized lexical tokens: {%s}", StringUtils.join(resultList, "|")));
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Output collection of factorized lexical tokens: {{}}", StringUtils.join(resultList, "|"));
+        }
         FileUtils.writeFile(new File(outputFile), resultList);
 
         try (final Stream<String> stream = Files.lines(Paths.get(outputFile), FileUtils.DEFAULT_FILE_CHARACTER_ENCODING)) {
@@ -179,7 +235,7 @@ public class NumericAnalyzerTest {
             Assert.assertTrue(firstLine.isPresent());
             Assert.assertEquals("Checking the first line of output token list: ", "19", firstLine.get());
         } catch (IOException ex) {
-            LOGGER.error(String.format("ERROR: cannot read from input file=%s, message=%s", String.valueOf(outputFile), ex.getMessage()));
+            LOGGER.error("ERROR: cannot read from input file={}, message={}", outputFile, ex.getMessage());
         }
     }
 